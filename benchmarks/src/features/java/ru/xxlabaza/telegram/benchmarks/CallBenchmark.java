@@ -0,0 +1,128 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.benchmarks;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.xxlabaza.telegram.api.Http2Client;
+import ru.xxlabaza.telegram.api.PooledClient;
+import ru.xxlabaza.telegram.api.TelegramService;
+import ru.xxlabaza.telegram.api.type.Message;
+import ru.xxlabaza.telegram.api.type.Update;
+
+/**
+ * End-to-end latency of {@code call()} against an in-process {@link StubServer}: building, encoding,
+ * HTTP round trip over loopback and decoding, with the default and the pooled transports. The HTTP/2 transport
+ * (requires Java 11, the trial fails otherwise) is measured against {@link Http2StubServer}, with the calls of all
+ * threads multiplexed over one connection.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 7:08:51 PM
+ *
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.AverageTime, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@Threads(4)
+public class CallBenchmark {
+
+    @Param({ "default", "pooled", "http2" })
+    private String client;
+
+    private Closeable server;
+
+    private PooledClient pooledClient;
+
+    private TelegramService service;
+
+    @Setup(Level.Trial)
+    public void setup () throws IOException {
+        TelegramService.Builder builder = TelegramService.builder()
+                .token("123456:benchmark");
+        if ("http2".equals(client)) {
+            if (!Http2Client.isSupported()) {
+                // otherwise the fallback's HTTP/1.1 calls would be reported as HTTP/2 ones
+                throw new IllegalStateException("the http2 transport requires Java 11 or later");
+            }
+            Http2StubServer http2Server = new Http2StubServer(10);
+            server = http2Server;
+            builder.url(http2Server.url())
+                    .client(Http2Client.builder().build());
+        } else {
+            StubServer stubServer = new StubServer(10);
+            server = stubServer;
+            builder.url(stubServer.url());
+        }
+        if ("pooled".equals(client)) {
+            pooledClient = PooledClient.builder().build();
+            builder.client(pooledClient);
+        }
+        service = builder.build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown () throws IOException {
+        if (pooledClient != null) {
+            pooledClient.close();
+        }
+        server.close();
+    }
+
+    @Benchmark
+    public Message sendMessage () {
+        return service.sendMessage()
+                .chat("123456789")
+                .text("Your order #42 is ready")
+                .call();
+    }
+
+    @Benchmark
+    public List<Update> getUpdates () {
+        return service.getUpdates()
+                .offset(100_000_000)
+                .limit(10)
+                .call();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.benchmarks;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.xxlabaza.telegram.api.ObjectMappers;
+import ru.xxlabaza.telegram.api.Response;
+import ru.xxlabaza.telegram.api.json.TelegramTypesModule;
+import ru.xxlabaza.telegram.api.type.Update;
+
+/**
+ * Binding of getUpdates responses and of updates with the hand-written codecs of {@link TelegramTypesModule}, against
+ * the bean binding with Afterburner accessors, which the library used before. The difference between them is the
+ * binding's cost, tokenizing and writing JSON take the same time with both.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 1:20:37 AM
+ *
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CodecBenchmark {
+
+    @Param({ "bean", "streaming" })
+    private String binding;
+
+    @Param({ "1", "100" })
+    private int count;
+
+    private ObjectReader updatesReader;
+
+    private ObjectWriter updateWriter;
+
+    private byte[] payload;
+
+    private List<Update> updates;
+
+    @Setup
+    public void setup () throws IOException {
+        ObjectMapper mapper = "bean".equals(binding)
+                              ? new ObjectMapper()
+                                      .registerModule(new AfterburnerModule())
+                                      .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                                      .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+                              : ObjectMappers.create();
+        TypeFactory types = mapper.getTypeFactory();
+        JavaType updatesType = types.constructParametrizedType(
+                Response.class, Response.class, types.constructCollectionType(List.class, Update.class)
+        );
+        updatesReader = mapper.readerFor(updatesType);
+        updateWriter = mapper.writerFor(Update.class);
+        payload = Payloads.updates(count);
+        updates = updatesReader.<Response<List<Update>>>readValue(payload).getResult();
+    }
+
+    @Benchmark
+    public Object decodeUpdates () throws IOException {
+        return updatesReader.readValue(payload);
+    }
+
+    @Benchmark
+    public int encodeUpdates () throws IOException {
+        int length = 0;
+        for (Update update : updates) {
+            length += updateWriter.writeValueAsBytes(update).length;
+        }
+        return length;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import ru.xxlabaza.telegram.api.type.Update;
+import ru.xxlabaza.telegram.api.update.UpdateDeduplicator;
+
+/**
+ * Cost of passing an update through {@link UpdateDeduplicator}: a steady stream of new updates, and a stream where
+ * each pair of updates arrives swapped, so every other update is parked until the missing one arrives.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 2:34:12 PM
+ *
+ * @version 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DeduplicatorBenchmark {
+
+    private static final int UPDATES = 1024;
+
+    @Param({ "0", "64" })
+    private int reorderWindow;
+
+    private UpdateDeduplicator deduplicator;
+
+    private Update[] updates;
+
+    private int id;
+
+    @Setup
+    public void setup (Blackhole blackhole) {
+        deduplicator = UpdateDeduplicator.builder(blackhole::consume)
+                .reorderWindow(reorderWindow)
+                .build();
+        updates = new Update[UPDATES];
+        for (int i = 0; i < UPDATES; i++) {
+            updates[i] = new Update();
+        }
+    }
+
+    @TearDown
+    public void tearDown () {
+        deduplicator.close();
+    }
+
+    @Benchmark
+    public void inOrder () {
+        accept(id);
+    }
+
+    @Benchmark
+    public void swapped () {
+        accept(id ^ 1);
+    }
+
+    private void accept (int updateId) {
+        // updates are reused, so the benchmark measures the deduplicator, not the allocation of updates
+        Update update = updates[id++ & UPDATES - 1];
+        update.setId(updateId);
+        deduplicator.accept(update);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.benchmarks;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+import ru.xxlabaza.telegram.api.Http2Client;
+import ru.xxlabaza.telegram.api.TelegramService;
+
+/**
+ * An in-process Bot API stub, which speaks cleartext HTTP/2 (h2c) and answers every method with a canned response,
+ * like {@link StubServer} does over HTTP/1.1.
+ * <p>
+ * Connections start either with the HTTP/1.1 upgrade, as {@link Http2Client} does for <b>http://</b> URLs, or with
+ * the HTTP/2 connection preface. The JDK has no HTTP/2 server, so Jetty's h2c connector serves the streams.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 11:59:21 PM
+ *
+ * @version 1.0.0
+ */
+final class Http2StubServer implements Closeable {
+
+    private final byte[] updates;
+
+    private final byte[] sentMessage;
+
+    private final Server server;
+
+    private final ServerConnector connector;
+
+    /**
+     * Starts a server on a free port of the loopback interface.
+     *
+     * @param updates number of updates in getUpdates responses
+     *
+     * @throws IOException if the server could not be started
+     */
+    Http2StubServer (int updates) throws IOException {
+        this.updates = Payloads.updates(updates);
+        sentMessage = Payloads.sentMessage();
+
+        server = new Server();
+        HttpConfiguration configuration = new HttpConfiguration();
+        connector = new ServerConnector(server,
+                                        new HttpConnectionFactory(configuration),
+                                        new HTTP2CServerConnectionFactory(configuration));
+        connector.setHost("127.0.0.1");
+        connector.setPort(0);
+        server.addConnector(connector);
+        server.setHandler(new AbstractHandler() {
+
+            @Override
+            public void handle (String target, Request baseRequest, HttpServletRequest request,
+                                HttpServletResponse response) throws IOException {
+                Http2StubServer.this.handle(request, response);
+                baseRequest.setHandled(true);
+            }
+        });
+        try {
+            server.start();
+        } catch (Exception ex) {
+            close();
+            throw new IOException("h2c stub server could not be started", ex);
+        }
+    }
+
+    /**
+     * @return base URL for {@link TelegramService.Builder#url(String)}
+     */
+    String url () {
+        return "http://127.0.0.1:" + connector.getLocalPort() + "/bot";
+    }
+
+    @Override
+    public void close () throws IOException {
+        try {
+            server.stop();
+        } catch (Exception ex) {
+            throw new IOException("h2c stub server could not be stopped", ex);
+        }
+    }
+
+    private void handle (HttpServletRequest request, HttpServletResponse response) throws IOException {
+        try (InputStream input = request.getInputStream()) {
+            byte[] buffer = new byte[8192];
+            while (input.read(buffer) != -1) {
+                // the request body is drained, so the stream is closed cleanly
+            }
+        }
+        byte[] body = request.getRequestURI().endsWith("/getUpdates")
+                      ? updates
+                      : sentMessage;
+        response.setStatus(200);
+        response.setContentType("application/json");
+        response.setContentLength(body.length);
+        try (OutputStream output = response.getOutputStream()) {
+            output.write(body);
+        }
+    }
+}
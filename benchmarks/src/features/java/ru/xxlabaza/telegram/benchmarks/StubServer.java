@@ -0,0 +1,109 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.benchmarks;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import ru.xxlabaza.telegram.api.TelegramService;
+
+/**
+ * An in-process Bot API stub, which answers every method with a canned response. It measures the library's request
+ * path (building, encoding, transport, decoding) without network latency of the real server.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 6:34:10 PM
+ *
+ * @version 1.0.0
+ */
+final class StubServer implements Closeable {
+
+    static {
+        // otherwise Nagle's algorithm and delayed ACKs add ~40ms to every small POST
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final HttpServer server;
+
+    private final ExecutorService executor;
+
+    private final byte[] updates;
+
+    private final byte[] sentMessage;
+
+    /**
+     * Starts a server on a free port of the loopback interface.
+     *
+     * @param updates number of updates in getUpdates responses
+     *
+     * @throws IOException if the server could not be started
+     */
+    StubServer (int updates) throws IOException {
+        this.updates = Payloads.updates(updates);
+        sentMessage = Payloads.sentMessage();
+        executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * @return base URL for {@link TelegramService.Builder#url(String)}
+     */
+    String url () {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/bot";
+    }
+
+    @Override
+    public void close () {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle (HttpExchange exchange) throws IOException {
+        try (InputStream input = exchange.getRequestBody()) {
+            byte[] buffer = new byte[8192];
+            while (input.read(buffer) != -1) {
+                // the request body is drained, so the connection can be reused
+            }
+        }
+        byte[] body = exchange.getRequestURI().getPath().endsWith("/getUpdates")
+                      ? updates
+                      : sentMessage;
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+}
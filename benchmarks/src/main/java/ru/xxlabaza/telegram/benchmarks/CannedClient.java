@@ -0,0 +1,68 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.benchmarks;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * An in-process Bot API stub in the form of the service's HTTP client, which answers every method with a canned
+ * response. It measures building, encoding and decoding without any I/O.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 12:21:36 PM
+ *
+ * @version 1.0.0
+ */
+final class CannedClient implements Client {
+
+    private static final Map<String, Collection<String>> HEADERS = Collections.singletonMap(
+            "Content-Type", Collections.singletonList("application/json")
+    );
+
+    private final byte[] updates;
+
+    private final byte[] sentMessage;
+
+    /**
+     * @param updates number of updates in getUpdates responses
+     */
+    CannedClient (int updates) {
+        this.updates = Payloads.updates(updates);
+        sentMessage = Payloads.sentMessage();
+    }
+
+    @Override
+    public Response execute (Request request, Request.Options options) {
+        byte[] body = request.url().contains("/getUpdates")
+                      ? updates
+                      : sentMessage;
+        return Response.create(200, "OK", HEADERS, body);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.xxlabaza.telegram.api.TelegramService;
+import ru.xxlabaza.telegram.api.type.Message;
+import ru.xxlabaza.telegram.api.type.Update;
+
+/**
+ * Decoding of getUpdates and sendMessage responses into {@link Update} and {@link Message}, through the service's
+ * {@code call()} against a {@link CannedClient}. The cost of building and encoding these small requests is a constant
+ * part of each result.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 6:42:27 PM
+ *
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DecodeBenchmark {
+
+    @Param({ "1", "10", "100" })
+    private int count;
+
+    private TelegramService service;
+
+    @Setup
+    public void setup () {
+        service = TelegramService.builder()
+                .token("123456:benchmark")
+                .client(new CannedClient(count))
+                .build();
+    }
+
+    @Benchmark
+    public List<Update> getUpdates () {
+        return service.getUpdates()
+                .offset(100_000_000)
+                .call();
+    }
+
+    @Benchmark
+    public Message sendMessage () {
+        return service.sendMessage()
+                .chat("123456789")
+                .text("Your order #42 is ready")
+                .call();
+    }
+}
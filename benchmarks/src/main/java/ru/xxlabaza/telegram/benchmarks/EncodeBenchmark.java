@@ -0,0 +1,93 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.xxlabaza.telegram.api.TelegramService;
+import ru.xxlabaza.telegram.api.type.Message;
+import ru.xxlabaza.telegram.api.type.ReplyKeyboardMarkup;
+
+/**
+ * Building and encoding of sendMessage requests, plain and with a keyboard, through the service's {@code call()}
+ * against a {@link CannedClient}. Both decode the same response, so the difference between them is the keyboard's
+ * encoding.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 6:55:03 PM
+ *
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EncodeBenchmark {
+
+    private TelegramService service;
+
+    private ReplyKeyboardMarkup keyboard;
+
+    @Setup
+    public void setup () {
+        service = TelegramService.builder()
+                .token("123456:benchmark")
+                .client(new CannedClient(1))
+                .build();
+        keyboard = Payloads.keyboard();
+    }
+
+    @Benchmark
+    public Message plain () {
+        return service.sendMessage()
+                .chat("123456789")
+                .text(Payloads.TEXT)
+                .mode("Markdown")
+                .disableWebPagePreview()
+                .call();
+    }
+
+    @Benchmark
+    public Message keyboard () {
+        return service.sendMessage()
+                .chat("123456789")
+                .text(Payloads.TEXT)
+                .mode("Markdown")
+                .disableWebPagePreview()
+                .replyKeyboardMarkup(keyboard)
+                .call();
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import ru.xxlabaza.telegram.api.type.ReplyKeyboardMarkup;
+
+/**
+ * Realistic Bot API payloads for benchmarks. Generated with a fixed seed, so runs of different versions read the same
+ * bytes.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 6:21:45 PM
+ *
+ * @version 1.0.0
+ */
+final class Payloads {
+
+    /**
+     * Text of sendMessage requests.
+     */
+    static final String TEXT = "Your order #42 is ready. Choose the delivery time below, or ask for a callback.";
+
+    private static final String[] WORDS = {
+        "hello", "bot", "привет", "please", "send", "me", "the", "weather", "for", "tomorrow", "thanks", "/start",
+        "/help", "ok", "когда", "🙂", "order", "status", "#42", "https://telegram.org"
+    };
+
+    /**
+     * Response of getUpdates with the given number of updates: text messages from private chats and groups, replies
+     * and forwards, with fields unknown to the library (as newer Bot API versions send them).
+     *
+     * @param count number of updates
+     *
+     * @return UTF-8 bytes of JSON
+     */
+    static byte[] updates (int count) {
+        Random random = new Random(count);
+        StringBuilder json = new StringBuilder(count * 512).append("{\"ok\":true,\"result\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"update_id\":").append(100_000_000 + i).append(",\"message\":");
+            message(json, random, 1_000 + i, true);
+            json.append('}');
+        }
+        return json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Response of sendMessage.
+     *
+     * @return UTF-8 bytes of JSON
+     */
+    static byte[] sentMessage () {
+        StringBuilder json = new StringBuilder(512).append("{\"ok\":true,\"result\":");
+        message(json, new Random(0), 1, false);
+        return json.append('}').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A keyboard of sendMessage requests.
+     *
+     * @return a new keyboard
+     */
+    static ReplyKeyboardMarkup keyboard () {
+        ReplyKeyboardMarkup keyboard = new ReplyKeyboardMarkup();
+        keyboard.setKeyboard(Arrays.asList(
+                Arrays.asList("09:00 - 12:00", "12:00 - 15:00"),
+                Arrays.asList("15:00 - 18:00", "18:00 - 21:00"),
+                Arrays.asList("Call me back")
+        ));
+        keyboard.setResize(true);
+        keyboard.setAutoHide(true);
+        return keyboard;
+    }
+    private static void message (StringBuilder json, Random random, int id, boolean nested) {
+        int user = 10_000_000 + random.nextInt(1_000);
+        boolean group = random.nextInt(3) == 0;
+        json.append("{\"message_id\":").append(id)
+                .append(",\"from\":{\"id\":").append(user)
+                .append(",\"is_bot\":false,\"first_name\":\"Artem\",\"last_name\":\"Labazin\",\"username\":\"user")
+                .append(user).append("\",\"language_code\":\"ru\"}");
+        if (group) {
+            json.append(",\"chat\":{\"id\":-").append(100_000 + random.nextInt(100))
+                    .append(",\"title\":\"Bot testers\",\"type\":\"group\",\"all_members_are_administrators\":true}");
+        } else {
+            json.append(",\"chat\":{\"id\":").append(user)
+                    .append(",\"first_name\":\"Artem\",\"last_name\":\"Labazin\",\"username\":\"user").append(user)
+                    .append("\",\"type\":\"private\"}");
+        }
+        json.append(",\"date\":").append(1_476_800_000 + id);
+        if (nested && random.nextInt(5) == 0) {
+            json.append(",\"forward_from\":{\"id\":42,\"first_name\":\"Channel\",\"username\":\"news\"}")
+                    .append(",\"forward_date\":1476790000");
+        }
+        if (nested && random.nextInt(4) == 0) {
+            json.append(",\"reply_to_message\":");
+            message(json, random, id - 1, false);
+        }
+        String text = text(random);
+        json.append(",\"text\":\"").append(text).append('"');
+        if (text.charAt(0) == '/') {
+            json.append(",\"entities\":[{\"offset\":0,\"length\":").append(text.indexOf(' ') < 0
+                                                                          ? text.length()
+                                                                          : text.indexOf(' '))
+                    .append(",\"type\":\"bot_command\"}]");
+        }
+        json.append('}');
+    }
+
+    private static String text (Random random) {
+        int words = 1 + random.nextInt(20);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+
+    private Payloads () {
+    }
+}
@@ -23,6 +23,7 @@
  */
 package ru.xxlabaza.telegram.api;
 
+import java.util.concurrent.Executor;
 import ru.xxlabaza.telegram.api.type.ForceReply;
 import ru.xxlabaza.telegram.api.type.ReplyKeyboardHide;
 import ru.xxlabaza.telegram.api.type.ReplyKeyboardMarkup;
@@ -39,14 +40,16 @@ abstract class AbstractReplyRequestBuilder<T> extends AbstractRequestBuilder<T>
 
     protected Integer replyTo;
 
+    protected ReplyMarkup replyMarkup;
+
     protected ReplyKeyboardMarkup replyKeyboardMarkup;
 
     protected ReplyKeyboardHide replyKeyboardHide;
 
     protected ForceReply forceReply;
 
-    AbstractReplyRequestBuilder (TelegramApi api) {
-        super(api);
+    AbstractReplyRequestBuilder (TelegramApi api, Executor executor) {
+        super(api, executor);
     }
 
     /**
@@ -62,60 +65,100 @@ abstract class AbstractReplyRequestBuilder<T> extends AbstractRequestBuilder<T>
     }
 
     /**
-     * Optional value. Only one value can be set <b>replyKeyboardMarkup</b>, <b>replyKeyboardHide</b> or
-     * <b>forceReply</b>
+     * Optional value. Only one value can be set <b>replyMarkup</b>, <b>replyKeyboardMarkup</b>,
+     * <b>replyKeyboardHide</b> or <b>forceReply</b>
+     *
+     * @param replyMarkup - additional interface options. A pre-serialized keyboard or instructions, which is attached
+     *                    to a request without serializing it again
+     *
+     * @return builder
+     *
+     * @exception IllegalArgumentException if <b>replyKeyboardMarkup</b>, <b>replyKeyboardHide</b> or
+     *                                     <b>forceReply</b> are already set.
+     */
+    public AbstractReplyRequestBuilder<T> replyMarkup (ReplyMarkup replyMarkup
+    ) throws IllegalArgumentException {
+        if (replyKeyboardMarkup != null || replyKeyboardHide != null || forceReply != null) {
+            throw new IllegalArgumentException("replyKeyboardMarkup, replyKeyboardHide or forceReply are already set");
+        }
+        this.replyMarkup = replyMarkup;
+        return this;
+    }
+
+    /**
+     * Optional value. Only one value can be set <b>replyMarkup</b>, <b>replyKeyboardMarkup</b>,
+     * <b>replyKeyboardHide</b> or <b>forceReply</b>
      *
      * @param replyKeyboardMarkup - additional interface options. A JSON-serialized object for a custom reply keyboard
      *
      * @return builder
      *
-     * @exception IllegalArgumentException if <b>replyKeyboardHide</b> or <b>forceReply</b> are already set.
+     * @exception IllegalArgumentException if <b>replyMarkup</b>, <b>replyKeyboardHide</b> or <b>forceReply</b> are
+     *                                     already set.
      */
     public AbstractReplyRequestBuilder<T> replyKeyboardMarkup (ReplyKeyboardMarkup replyKeyboardMarkup
     ) throws IllegalArgumentException {
-        if (replyKeyboardHide != null || forceReply != null) {
-            throw new IllegalArgumentException("replyKeyboardHide or forceReply are already set");
+        if (replyMarkup != null || replyKeyboardHide != null || forceReply != null) {
+            throw new IllegalArgumentException("replyMarkup, replyKeyboardHide or forceReply are already set");
         }
         this.replyKeyboardMarkup = replyKeyboardMarkup;
         return this;
     }
 
     /**
-     * Optional value. Only one value can be set <b>replyKeyboardMarkup</b>, <b>replyKeyboardHide</b> or
-     * <b>forceReply</b>
+     * Optional value. Only one value can be set <b>replyMarkup</b>, <b>replyKeyboardMarkup</b>,
+     * <b>replyKeyboardHide</b> or <b>forceReply</b>
      *
      * @param replyKeyboardHide - additional interface options. A JSON-serialized object for a instructions to hide
      *                          keyboard
      *
      * @return builder
      *
-     * @exception IllegalArgumentException if <b>replyKeyboardMarkup</b> or <b>forceReply</b> are already set.
+     * @exception IllegalArgumentException if <b>replyMarkup</b>, <b>replyKeyboardMarkup</b> or <b>forceReply</b> are
+     *                                     already set.
      */
     public AbstractReplyRequestBuilder<T> replyKeyboardHide (ReplyKeyboardHide replyKeyboardHide
     ) throws IllegalArgumentException {
-        if (replyKeyboardMarkup != null || forceReply != null) {
-            throw new IllegalArgumentException("replyKeyboardMarkup or forceReply are already set");
+        if (replyMarkup != null || replyKeyboardMarkup != null || forceReply != null) {
+            throw new IllegalArgumentException("replyMarkup, replyKeyboardMarkup or forceReply are already set");
         }
         this.replyKeyboardHide = replyKeyboardHide;
         return this;
     }
 
     /**
-     * Optional value. Only one value can be set <b>replyKeyboardMarkup</b>, <b>replyKeyboardHide</b> or
-     * <b>forceReply</b>
+     * Optional value. Only one value can be set <b>replyMarkup</b>, <b>replyKeyboardMarkup</b>,
+     * <b>replyKeyboardHide</b> or <b>forceReply</b>
      *
      * @param forceReply - additional interface options. A JSON-serialized object to force a reply from the user
      *
      * @return builder
      *
-     * @exception IllegalArgumentException if <b>replyKeyboardMarkup</b> or <b>replyKeyboardHide</b> are already set.
+     * @exception IllegalArgumentException if <b>replyMarkup</b>, <b>replyKeyboardMarkup</b> or
+     *                                     <b>replyKeyboardHide</b> are already set.
      */
     public AbstractReplyRequestBuilder<T> forceReply (ForceReply forceReply
     ) throws IllegalArgumentException {
-        if (replyKeyboardHide != null || replyKeyboardMarkup != null) {
-            throw new IllegalArgumentException("replyKeyboardMarkup or replyKeyboardHide are already set");
+        if (replyMarkup != null || replyKeyboardHide != null || replyKeyboardMarkup != null) {
+            throw new IllegalArgumentException("replyMarkup, replyKeyboardMarkup or replyKeyboardHide are already set");
         }
         this.forceReply = forceReply;
         return this;
     }
+
+    /**
+     * @return the only set reply markup of <b>replyMarkup</b>, <b>replyKeyboardMarkup</b>, <b>replyKeyboardHide</b>
+     *         or <b>forceReply</b>, or null if none is set
+     */
+    protected Object reply () {
+        if (replyMarkup != null) {
+            return replyMarkup;
+        } else if (replyKeyboardMarkup != null) {
+            return replyKeyboardMarkup;
+        } else if (replyKeyboardHide != null) {
+            return replyKeyboardHide;
+        } else {
+            return forceReply;
+        }
+    }
 }
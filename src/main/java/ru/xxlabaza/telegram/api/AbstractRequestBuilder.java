@@ -23,6 +23,11 @@
  */
 package ru.xxlabaza.telegram.api;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import ru.xxlabaza.telegram.api.jfr.JfrEvents;
+
 /**
  *
  * @author Artem Labazin
@@ -35,8 +40,11 @@ abstract class AbstractRequestBuilder<T> implements RequestBuilder<T> {
 
     protected final TelegramApi api;
 
-    protected AbstractRequestBuilder (TelegramApi api) {
+    protected final Executor executor;
+
+    protected AbstractRequestBuilder (TelegramApi api, Executor executor) {
         this.api = api;
+        this.executor = executor;
     }
 
     /**
@@ -44,19 +52,100 @@ abstract class AbstractRequestBuilder<T> implements RequestBuilder<T> {
      */
     @Override
     public T call () {
-        Response<T> response = getResponse();
-        validate(response);
-        return response.getResult();
+        return call(prepare(), chat());
+    }
+
+    /**
+     * Performs the call on the service's executor. The builder's values are captured before this method returns, so
+     * the builder can be modified or reused right away.
+     * <p>
+     * Transports are blocking, so the call occupies one of the executor's threads for its round trip and the executor
+     * bounds the calls in flight: the default one runs up to 64 calls at a time and queues the rest. More concurrent
+     * calls take an executor of their own, see {@link TelegramService.Builder#executor(Executor)}, or virtual threads.
+     *
+     * @return a future, which completes with the response on success, or exceptionally with the call's error.
+     */
+    @Override
+    public CompletableFuture<T> callAsync () {
+        return callAsync(executor);
+    }
+
+    /**
+     * Performs the call on the specified executor. The builder's values are captured before this method returns, so
+     * the builder can be modified or reused right away.
+     *
+     * @param executor an executor to perform the call on
+     *
+     * @return a future, which completes with the response on success, or exceptionally with the call's error.
+     */
+    @Override
+    public CompletableFuture<T> callAsync (Executor executor) {
+        Supplier<Response<T>> request;
+        String chat;
+        try {
+            request = prepare();
+            chat = chat();
+        } catch (RuntimeException ex) {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            future.completeExceptionally(ex);
+            return future;
+        }
+        return CompletableFuture.supplyAsync(() -> call(request, chat), executor);
     }
 
-    protected abstract Response<T> getResponse ();
+    /**
+     * Validates the builder's values and captures them into the call's parameters. It is invoked on the caller's
+     * thread, while the returned remote call may run on another one.
+     *
+     * @return the remote call with the captured parameters
+     *
+     * @exception IllegalArgumentException if a required value is not set.
+     */
+    protected abstract Supplier<Response<T>> prepare ();
+
+    /**
+     * @return the call's target chat for diagnostics, or null if the call has no chat
+     */
+    protected String chat () {
+        return null;
+    }
 
-    protected void validate (Response<T> response) {
+    protected void validate (Response<?> response) {
         if (response == null) {
             throw new RemoteApiException();
         }
         if (!response.getOk()) {
-            throw new RemoteApiException(response.getError());
+            throw new RemoteApiException(response);
+        }
+    }
+
+    /**
+     * Makes the remote call and records it as a flight recorder event.
+     *
+     * @param <R>     type of the call's result
+     * @param request the remote call
+     * @param chat    the call's target chat for diagnostics, or null
+     *
+     * @return the call's result
+     *
+     * @exception RemoteApiException if the call was unsuccessful.
+     */
+    <R> R call (Supplier<Response<R>> request, String chat) {
+        boolean began = JfrEvents.callStarted();
+        boolean ok = false;
+        int errorCode = 0;
+        try {
+            Response<R> response = request.get();
+            validate(response);
+            ok = true;
+            return response.getResult();
+        } catch (RemoteApiException ex) {
+            if (ex.getErrorCode() != null) {
+                errorCode = ex.getErrorCode();
+            }
+            throw ex;
+        } finally {
+            JfrEvents.callFinished(began, chat, ok, errorCode);
         }
     }
 }
@@ -0,0 +1,518 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api;
+
+import feign.Logger;
+import feign.Request;
+import feign.Response;
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A wire logger, which never formats or writes on the calling thread.
+ * <p>
+ * Requests and responses are captured as references to their already existing parts and put into a bounded lock-free
+ * ring buffer, which is drained by a background writer thread. When the buffer is full, records are dropped instead of
+ * blocking calls. Response bodies are not buffered: their first bytes are captured while the decoder reads them, and
+ * the record is published when the body is closed. Only a sample of calls can be logged, while unsuccessful responses
+ * and I/O errors are always logged:
+ * <pre>
+ * AsyncLogger logger = AsyncLogger.builder()
+ *         .file(Paths.get("telegram.log"))
+ *         .sampleRate(0.01)
+ *         .maxBodyBytes(1024)
+ *         .build();
+ * TelegramService service = TelegramService.builder()
+ *         .token("&lt;token&gt;")
+ *         .logger(logger, feign.Logger.Level.FULL)
+ *         .build();
+ * </pre>
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 11:36:18 PM
+ *
+ * @version 1.0.0
+ */
+public final class AsyncLogger extends Logger implements Closeable {
+
+    private static final java.util.logging.Logger LOGGER = java.util.logging.Logger.getLogger(AsyncLogger.class
+            .getName());
+
+    private static final long IDLE_PARK = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Writer writer;
+
+    private final double sampleRate;
+
+    private final int maxBodyBytes;
+
+    private final AtomicReferenceArray<Entry> ring;
+
+    private final int mask;
+
+    private final AtomicLong tail;
+
+    private final Thread drainer;
+
+    private final ThreadLocal<Boolean> sampled;
+
+    private final LongAdder dropped;
+
+    private volatile long head;
+
+    private volatile boolean closed;
+
+    private AsyncLogger (Builder builder) {
+        writer = builder.writer;
+        sampleRate = builder.sampleRate;
+        maxBodyBytes = builder.maxBodyBytes;
+        ring = new AtomicReferenceArray<>(builder.capacity);
+        mask = builder.capacity - 1;
+        tail = new AtomicLong();
+        sampled = new ThreadLocal<>();
+        dropped = new LongAdder();
+        drainer = new Thread(this::drain, "telegram-api-logger");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    /**
+     * @return {@link Builder} which builds logger
+     */
+    public static Builder builder () {
+        return new Builder();
+    }
+
+    /**
+     * @return the number of records, which were dropped because the buffer was full
+     */
+    public long getDropped () {
+        return dropped.sum();
+    }
+
+    /**
+     * Writes all buffered records, stops the writer thread and closes the output.
+     */
+    @Override
+    public void close () throws IOException {
+        closed = true;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        writer.close();
+    }
+
+    @Override
+    protected void logRequest (String configKey, Level logLevel, Request request) {
+        boolean sample = sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+        sampled.set(sample);
+        if (sample) {
+            publish(out -> writeRequest(out, configKey, logLevel, request));
+        }
+    }
+
+    @Override
+    protected Response logAndRebufferResponse (String configKey, Level logLevel, Response response, long elapsedTime
+    ) throws IOException {
+        boolean failed = response.status() < 200 || response.status() >= 300;
+        if (!failed && !Boolean.TRUE.equals(sampled.get())) {
+            return response;
+        }
+        if (logLevel != Level.FULL || response.body() == null) {
+            publish(out -> writeResponse(out, configKey, logLevel, response, elapsedTime, null, 0, 0));
+            return response;
+        }
+        CapturingBody body = new CapturingBody(response, configKey, logLevel, elapsedTime);
+        return Response.create(response.status(), response.reason(), response.headers(), body);
+    }
+
+    @Override
+    protected void log (String configKey, String format, Object... args) {
+        // retries and I/O errors, which are always logged
+        publish(out -> out.append(methodTag(configKey)).append(String.format(format, args)).append('\n'));
+    }
+
+    private void publish (Entry entry) {
+        long sequence;
+        do {
+            sequence = tail.get();
+            if (sequence - head >= ring.length() || closed) {
+                dropped.increment();
+                return;
+            }
+        } while (!tail.compareAndSet(sequence, sequence + 1));
+        ring.lazySet((int) sequence & mask, entry);
+    }
+
+    private void drain () {
+        StringBuilder out = new StringBuilder(4096);
+        long next = head;
+        while (true) {
+            int slot = (int) next & mask;
+            Entry entry = ring.get(slot);
+            if (entry == null) {
+                if (out.length() > 0) {
+                    write(out);
+                } else if (closed && next == tail.get()) {
+                    return;
+                } else {
+                    LockSupport.parkNanos(IDLE_PARK);
+                }
+                continue;
+            }
+            ring.lazySet(slot, null);
+            head = ++next;
+            try {
+                entry.write(out);
+            } catch (RuntimeException ex) {
+                LOGGER.log(java.util.logging.Level.WARNING, "can't format log record", ex);
+            }
+            if (out.length() >= 64 * 1024) {
+                write(out);
+            }
+        }
+    }
+
+    private void write (StringBuilder out) {
+        try {
+            writer.append(out);
+            writer.flush();
+        } catch (IOException ex) {
+            LOGGER.log(java.util.logging.Level.WARNING, "can't write log records", ex);
+        }
+        out.setLength(0);
+    }
+
+    private void writeRequest (StringBuilder out, String configKey, Level logLevel, Request request) {
+        String tag = methodTag(configKey);
+        out.append(tag).append("---> ").append(request.method()).append(' ').append(request.url())
+                .append(" HTTP/1.1\n");
+        if (logLevel == Level.BASIC) {
+            return;
+        }
+        writeHeaders(out, tag, request.headers());
+        int length = request.body() == null
+                     ? 0
+                     : request.body().length;
+        if (logLevel == Level.FULL && length > 0) {
+            writeBody(out, tag, request.body(), Math.min(length, maxBodyBytes), length);
+        }
+        out.append(tag).append("---> END HTTP (").append(length).append("-byte body)\n");
+    }
+
+    private void writeResponse (StringBuilder out, String configKey, Level logLevel, Response response,
+                                long elapsedTime, byte[] body, int captured, long length) {
+        String tag = methodTag(configKey);
+        out.append(tag).append("<--- HTTP/1.1 ").append(response.status());
+        if (response.reason() != null) {
+            out.append(' ').append(response.reason());
+        }
+        out.append(" (").append(elapsedTime).append("ms)\n");
+        if (logLevel == Level.BASIC) {
+            return;
+        }
+        writeHeaders(out, tag, response.headers());
+        if (body != null && length > 0) {
+            writeBody(out, tag, body, captured, length);
+        }
+        out.append(tag).append("<--- END HTTP");
+        if (body != null) {
+            out.append(" (").append(length).append("-byte body)");
+        }
+        out.append('\n');
+    }
+
+    private static void writeHeaders (StringBuilder out, String tag, Map<String, Collection<String>> headers) {
+        for (Map.Entry<String, Collection<String>> header : headers.entrySet()) {
+            for (String value : header.getValue()) {
+                out.append(tag).append(header.getKey()).append(": ").append(value).append('\n');
+            }
+        }
+    }
+
+    private static void writeBody (StringBuilder out, String tag, byte[] body, int captured, long length) {
+        out.append(tag).append('\n').append(tag).append(new String(body, 0, captured, StandardCharsets.UTF_8));
+        if (length > captured) {
+            out.append("... (").append(length - captured).append(" more bytes)");
+        }
+        out.append('\n');
+    }
+
+    @FunctionalInterface
+    private interface Entry {
+
+        void write (StringBuilder out);
+    }
+
+    private final class CapturingBody implements Response.Body {
+
+        private final Response response;
+
+        private final String configKey;
+
+        private final Level logLevel;
+
+        private final long elapsedTime;
+
+        private byte[] captured;
+
+        private int capturedLength;
+
+        private long length;
+
+        private boolean published;
+
+        private InputStream stream;
+
+        CapturingBody (Response response, String configKey, Level logLevel, long elapsedTime) {
+            this.response = response;
+            this.configKey = configKey;
+            this.logLevel = logLevel;
+            this.elapsedTime = elapsedTime;
+        }
+
+        @Override
+        public Integer length () {
+            return response.body().length();
+        }
+
+        @Override
+        public boolean isRepeatable () {
+            return response.body().isRepeatable();
+        }
+
+        @Override
+        public InputStream asInputStream () throws IOException {
+            if (stream == null || isRepeatable()) {
+                stream = new CapturingInputStream(response.body().asInputStream());
+            }
+            return stream;
+        }
+
+        @Override
+        public Reader asReader () throws IOException {
+            return new InputStreamReader(asInputStream(), StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void close () throws IOException {
+            try {
+                response.body().close();
+            } finally {
+                publish();
+            }
+        }
+
+        private void publish () {
+            if (!published) {
+                published = true;
+                byte[] body = captured == null
+                              ? new byte[0]
+                              : captured;
+                int bodyLength = capturedLength;
+                long total = length;
+                AsyncLogger.this.publish(out -> writeResponse(out, configKey, logLevel, response, elapsedTime, body,
+                                                              bodyLength, total));
+            }
+        }
+
+        private final class CapturingInputStream extends FilterInputStream {
+
+            CapturingInputStream (InputStream input) {
+                super(input);
+            }
+
+            @Override
+            public int read () throws IOException {
+                int read = super.read();
+                if (read < 0) {
+                    publish();
+                    return read;
+                }
+                if (allocate() > capturedLength) {
+                    captured[capturedLength++] = (byte) read;
+                }
+                length++;
+                return read;
+            }
+
+            @Override
+            public int read (byte[] buffer, int offset, int count) throws IOException {
+                int read = super.read(buffer, offset, count);
+                if (read < 0) {
+                    publish();
+                    return read;
+                }
+                int copied = Math.min(allocate() - capturedLength, read);
+                System.arraycopy(buffer, offset, captured, capturedLength, copied);
+                capturedLength += copied;
+                length += read;
+                return read;
+            }
+
+            /**
+             * @return size of the captured prefix
+             */
+            private int allocate () {
+                if (captured == null) {
+                    Integer known = response.body().length();
+                    captured = new byte[known == null
+                                        ? maxBodyBytes
+                                        : Math.min(known, maxBodyBytes)];
+                }
+                return captured.length;
+            }
+        }
+    }
+
+    /**
+     * A builder of {@link AsyncLogger} with its output, buffer and sampling settings.
+     */
+    public static final class Builder {
+
+        private Writer writer;
+
+        private int capacity;
+
+        private double sampleRate;
+
+        private int maxBodyBytes;
+
+        private Builder () {
+            capacity = 8192;
+            sampleRate = 1;
+            maxBodyBytes = 4096;
+        }
+
+        /**
+         * Required value, either a file or a writer.
+         *
+         * @param file a file to append records to. It is created if it does not exist
+         *
+         * @return {@link Builder} which builds logger
+         *
+         * @exception UncheckedIOException if the file can not be opened.
+         */
+        public Builder file (Path file) {
+            try {
+                writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                                                 StandardOpenOption.APPEND);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return this;
+        }
+
+        /**
+         * Required value, either a file or a writer.
+         *
+         * @param writer an output of records, which is used by the writer thread only
+         *
+         * @return {@link Builder} which builds logger
+         */
+        public Builder writer (Writer writer) {
+            this.writer = writer;
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to 8192. Rounded up to a power of two.
+         *
+         * @param capacity maximum number of records waiting for the writer thread
+         *
+         * @return {@link Builder} which builds logger
+         */
+        public Builder capacity (int capacity) {
+            if (capacity <= 0 || capacity > 1 << 30) {
+                throw new IllegalArgumentException("capacity must be in range [1, 2^30]");
+            }
+            this.capacity = capacity == 1
+                            ? 1
+                            : Integer.highestOneBit(capacity - 1) << 1;
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to 1, all calls are logged.
+         *
+         * @param sampleRate a fraction of logged calls in range [0, 1]. Unsuccessful responses are logged regardless
+         *
+         * @return {@link Builder} which builds logger
+         */
+        public Builder sampleRate (double sampleRate) {
+            if (sampleRate < 0 || sampleRate > 1) {
+                throw new IllegalArgumentException("sampleRate must be in range [0, 1]");
+            }
+            this.sampleRate = sampleRate;
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to 4096.
+         *
+         * @param maxBodyBytes maximum number of logged bytes of a request or response body, the rest is truncated
+         *
+         * @return {@link Builder} which builds logger
+         */
+        public Builder maxBodyBytes (int maxBodyBytes) {
+            if (maxBodyBytes < 0) {
+                throw new IllegalArgumentException("maxBodyBytes must not be negative");
+            }
+            this.maxBodyBytes = maxBodyBytes;
+            return this;
+        }
+
+        /**
+         * @return a new {@link AsyncLogger} instance
+         */
+        public AsyncLogger build () {
+            if (writer == null) {
+                throw new IllegalArgumentException("file or writer value is required");
+            }
+            return new AsyncLogger(this);
+        }
+    }
+}
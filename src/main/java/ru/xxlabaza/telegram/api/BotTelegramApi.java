@@ -0,0 +1,101 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api;
+
+import java.util.List;
+import ru.xxlabaza.telegram.api.type.Message;
+import ru.xxlabaza.telegram.api.type.Update;
+import ru.xxlabaza.telegram.api.type.User;
+
+/**
+ * Telegram Bot API methods of one bot, called through the shared API of a {@link TelegramRuntime}. The bot's state is
+ * its token only.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 9:31:12 PM
+ *
+ * @version 1.0.0
+ */
+class BotTelegramApi implements TelegramApi {
+
+    private final String token;
+
+    private final SharedTelegramApi api;
+
+    BotTelegramApi (String token, SharedTelegramApi api) {
+        this.token = token;
+        this.api = api;
+    }
+
+    @Override
+    public Response<User> getMe () {
+        return api.getMe(token);
+    }
+
+    @Override
+    public Response<Message> sendMessage (SendMessageParameters parameters) {
+        return api.sendMessage(token, parameters);
+    }
+
+    @Override
+    public Response<Message> sendMessage (TemplateMessageParameters parameters) {
+        return api.sendMessage(token, parameters);
+    }
+
+    @Override
+    public Response<Message> forwardMessage (ForwardMessageParameters parameters) {
+        return api.forwardMessage(token, parameters);
+    }
+
+    @Override
+    public Response<Message> sendSticker (SendStickerParameters parameters) {
+        return api.sendSticker(token, parameters);
+    }
+
+    @Override
+    public Response<Message> sendLocation (SendLocationParameters parameters) {
+        return api.sendLocation(token, parameters);
+    }
+
+    @Override
+    public Response<Object> sendChatAction (SendChatActionParameters parameters) {
+        return api.sendChatAction(token, parameters);
+    }
+
+    @Override
+    public Response<List<Update>> getUpdates (GetUpdatesParameters parameters) {
+        return api.getUpdates(token, parameters);
+    }
+
+    @Override
+    public Response<Integer> streamUpdates (GetUpdatesParameters parameters) {
+        return api.streamUpdates(token, parameters);
+    }
+
+    @Override
+    public Response<Object> setWebhook (SetWebhookParameters parameters) {
+        return api.setWebhook(token, parameters);
+    }
+}
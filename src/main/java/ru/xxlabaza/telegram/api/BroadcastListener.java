@@ -0,0 +1,57 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api;
+
+import ru.xxlabaza.telegram.api.type.Message;
+
+/**
+ * A listener of a broadcast's progress. Methods are called concurrently, from the threads sending the messages.
+ * Exceptions thrown by the methods are logged, and neither change the broadcast's counts nor stop it.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 5:48:02 PM
+ *
+ * @version 1.0.0
+ */
+public interface BroadcastListener {
+
+    /**
+     * Called after the message is sent to a chat.
+     *
+     * @param chat    unique identifier for the target chat or username of the target channel
+     * @param message the sent message
+     */
+    default void onSent (String chat, Message message) {
+    }
+
+    /**
+     * Called after sending the message to a chat has failed.
+     *
+     * @param chat      unique identifier for the target chat or username of the target channel
+     * @param exception the call's error, usually {@link RemoteApiException}
+     */
+    default void onFailed (String chat, RuntimeException exception) {
+    }
+}
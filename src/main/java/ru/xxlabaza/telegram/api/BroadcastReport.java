@@ -0,0 +1,58 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api;
+
+import java.io.Serializable;
+import lombok.Value;
+
+/**
+ * Results of a finished broadcast.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 5:50:37 PM
+ *
+ * @version 1.0.0
+ */
+@Value
+@SuppressWarnings("PMD.UnusedPrivateField")
+public class BroadcastReport implements Serializable {
+
+    private static final long serialVersionUID = 5190383716152236448L;
+
+    /**
+     * Number of chats the message was sent to
+     */
+    private long sent;
+
+    /**
+     * Number of chats sending the message to has failed
+     */
+    private long failed;
+
+    /**
+     * Wall-clock duration of the broadcast in milliseconds
+     */
+    private long duration;
+}
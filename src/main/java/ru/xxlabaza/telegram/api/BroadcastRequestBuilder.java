@@ -0,0 +1,383 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import ru.xxlabaza.telegram.api.type.ForceReply;
+import ru.xxlabaza.telegram.api.type.Message;
+import ru.xxlabaza.telegram.api.type.ReplyKeyboardHide;
+import ru.xxlabaza.telegram.api.type.ReplyKeyboardMarkup;
+
+/**
+ * A request builder for sending one text message to a large number of chats.
+ * <p>
+ * The shared parts of the message are serialized once. Messages are sent by several concurrent workers, so requests
+ * are pipelined over pooled connections, while the service's {@link RateLimiter} (if any) keeps them within
+ * Telegram's flood limits. Failures of single chats do not stop the broadcast, they are reported to the
+ * {@link BroadcastListener}.
+ * <p>
+ * On completion, a {@link BroadcastReport} is returned.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 5:55:14 PM
+ *
+ * @version 1.0.0
+ */
+public final class BroadcastRequestBuilder implements RequestBuilder<BroadcastReport> {
+
+    private static final Logger LOGGER = Logger.getLogger(BroadcastRequestBuilder.class.getName());
+
+    private static final BroadcastListener NO_LISTENER = new BroadcastListener() {
+    };
+
+    private final TelegramApi api;
+
+    private final Executor executor;
+
+    private Iterator<String> chats;
+
+    private String text;
+
+    private String mode;
+
+    private boolean disablePreview;
+
+    private ReplyMarkup replyMarkup;
+
+    private int parallelism;
+
+    private BroadcastListener listener;
+
+    BroadcastRequestBuilder (TelegramApi api, Executor executor) {
+        this.api = api;
+        this.executor = executor;
+        parallelism = 16;
+        listener = NO_LISTENER;
+    }
+
+    /**
+     * Required value.
+     *
+     * @param chats unique identifiers of the target chats or usernames of the target channels
+     *              (in the format @channelusername). They are read lazily, as the broadcast goes.
+     *
+     * @return {@link BroadcastRequestBuilder} which builds request
+     */
+    public BroadcastRequestBuilder chats (Iterator<String> chats) {
+        this.chats = chats;
+        return this;
+    }
+
+    /**
+     * Required value.
+     *
+     * @param chats unique identifiers of the target chats or usernames of the target channels
+     *              (in the format @channelusername)
+     *
+     * @return {@link BroadcastRequestBuilder} which builds request
+     */
+    public BroadcastRequestBuilder chats (Iterable<String> chats) {
+        return chats(chats.iterator());
+    }
+
+    /**
+     * Required value.
+     *
+     * @param chats unique identifiers of the target chats or usernames of the target channels
+     *              (in the format @channelusername). They are read lazily, as the broadcast goes.
+     *
+     * @return {@link BroadcastRequestBuilder} which builds request
+     */
+    public BroadcastRequestBuilder chats (Stream<String> chats) {
+        return chats(chats.iterator());
+    }
+
+    /**
+     * Required value.
+     *
+     * @param text text of the message to be sent
+     *
+     * @return {@link BroadcastRequestBuilder} which builds request
+     */
+    public BroadcastRequestBuilder text (String text) {
+        this.text = text;
+        return this;
+    }
+
+    /**
+     * Optional value.
+     *
+     * @param mode send Markdown, if you want Telegram apps to show bold, italic and inline URLs in your bot's message
+     *
+     * @return {@link BroadcastRequestBuilder} which builds request
+     */
+    public BroadcastRequestBuilder mode (String mode) {
+        this.mode = mode;
+        return this;
+    }
+
+    /**
+     * Optional value. Disables link previews for links in this message
+     *
+     * @return {@link BroadcastRequestBuilder} which builds request
+     */
+    public BroadcastRequestBuilder disableWebPagePreview () {
+        disablePreview = true;
+        return this;
+    }
+
+    /**
+     * Optional value.
+     *
+     * @param replyMarkup additional interface options. A pre-serialized keyboard or instructions
+     *
+     * @return {@link BroadcastRequestBuilder} which builds request
+     */
+    public BroadcastRequestBuilder replyMarkup (ReplyMarkup replyMarkup) {
+        this.replyMarkup = replyMarkup;
+        return this;
+    }
+
+    /**
+     * Optional value.
+     *
+     * @param replyKeyboardMarkup additional interface options. A custom reply keyboard
+     *
+     * @return {@link BroadcastRequestBuilder} which builds request
+     */
+    public BroadcastRequestBuilder replyKeyboardMarkup (ReplyKeyboardMarkup replyKeyboardMarkup) {
+        return replyMarkup(ReplyMarkup.of(replyKeyboardMarkup));
+    }
+
+    /**
+     * Optional value.
+     *
+     * @param replyKeyboardHide additional interface options. Instructions to hide keyboard
+     *
+     * @return {@link BroadcastRequestBuilder} which builds request
+     */
+    public BroadcastRequestBuilder replyKeyboardHide (ReplyKeyboardHide replyKeyboardHide) {
+        return replyMarkup(ReplyMarkup.of(replyKeyboardHide));
+    }
+
+    /**
+     * Optional value.
+     *
+     * @param forceReply additional interface options. Instructions to force a reply from the user
+     *
+     * @return {@link BroadcastRequestBuilder} which builds request
+     */
+    public BroadcastRequestBuilder forceReply (ForceReply forceReply) {
+        return replyMarkup(ReplyMarkup.of(forceReply));
+    }
+
+    /**
+     * Optional value. Defaults to 16.
+     *
+     * @param parallelism number of messages sent concurrently
+     *
+     * @return {@link BroadcastRequestBuilder} which builds request
+     */
+    public BroadcastRequestBuilder parallelism (int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Optional value.
+     *
+     * @param listener a listener of the broadcast's progress
+     *
+     * @return {@link BroadcastRequestBuilder} which builds request
+     */
+    public BroadcastRequestBuilder listener (BroadcastListener listener) {
+        this.listener = listener;
+        return this;
+    }
+
+    /**
+     * Sends the message to all chats and waits for the broadcast to finish.
+     *
+     * @return the broadcast's report
+     */
+    @Override
+    public BroadcastReport call () {
+        try {
+            return callAsync().join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Starts the broadcast on the service's executor.
+     *
+     * @return a future, which completes with the broadcast's report
+     */
+    @Override
+    public CompletableFuture<BroadcastReport> callAsync () {
+        return callAsync(executor);
+    }
+
+    /**
+     * Starts the broadcast on the specified executor, which runs the sending workers.
+     *
+     * @param executor an executor to run the broadcast on
+     *
+     * @return a future, which completes with the broadcast's report, or exceptionally if a required value is not set
+     *         or the executor rejects the workers
+     */
+    @Override
+    public CompletableFuture<BroadcastReport> callAsync (Executor executor) {
+        if (chats == null) {
+            return failed(new IllegalArgumentException("chats value is required"));
+        }
+        if (text == null) {
+            return failed(new IllegalArgumentException("text value is required"));
+        }
+
+        Broadcast broadcast = new Broadcast(new TemplateMessageParameters.Template(
+                new SendMessageParameters(null, text, mode, disablePreview, null, replyMarkup)
+        ));
+        CompletableFuture<?>[] workers = new CompletableFuture<?>[parallelism];
+        for (int i = 0; i < workers.length; i++) {
+            try {
+                workers[i] = CompletableFuture.runAsync(broadcast::run, executor);
+            } catch (RejectedExecutionException ex) {
+                // the workers, which have started, still drain the chats
+                workers[i] = failed(ex);
+            }
+        }
+        return CompletableFuture.allOf(workers).thenApply(nothing -> broadcast.report());
+    }
+
+    private static <T> CompletableFuture<T> failed (Throwable throwable) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+
+    private final class Broadcast {
+
+        private final TemplateMessageParameters.Template template;
+
+        private final Iterator<String> chats;
+
+        private final ReentrantLock chatsLock;
+
+        private final BroadcastListener listener;
+
+        private final AtomicLong sent;
+
+        private final AtomicLong failed;
+
+        private final long start;
+
+        Broadcast (TemplateMessageParameters.Template template) {
+            this.template = template;
+            chats = BroadcastRequestBuilder.this.chats;
+            chatsLock = new ReentrantLock();
+            listener = BroadcastRequestBuilder.this.listener;
+            sent = new AtomicLong();
+            failed = new AtomicLong();
+            start = System.currentTimeMillis();
+        }
+
+        void run () {
+            String chat;
+            while ((chat = next()) != null) {
+                Message message;
+                try {
+                    message = send(chat);
+                } catch (RuntimeException ex) {
+                    failed.incrementAndGet();
+                    notifyFailed(chat, ex);
+                    continue;
+                }
+                sent.incrementAndGet();
+                notifySent(chat, message);
+            }
+        }
+
+        BroadcastReport report () {
+            return new BroadcastReport(sent.get(), failed.get(), System.currentTimeMillis() - start);
+        }
+
+        private Message send (String chat) {
+            Response<Message> response = api.sendMessage(new TemplateMessageParameters(chat, template));
+            if (response == null) {
+                throw new RemoteApiException();
+            }
+            if (!response.getOk()) {
+                throw new RemoteApiException(response);
+            }
+            return response.getResult();
+        }
+
+        // a failing listener must neither change the counts, nor stop the worker
+        private void notifySent (String chat, Message message) {
+            try {
+                listener.onSent(chat, message);
+            } catch (RuntimeException ex) {
+                LOGGER.log(Level.WARNING, "broadcast listener failed", ex);
+            }
+        }
+
+        private void notifyFailed (String chat, RuntimeException exception) {
+            try {
+                listener.onFailed(chat, exception);
+            } catch (RuntimeException ex) {
+                LOGGER.log(Level.WARNING, "broadcast listener failed", ex);
+            }
+        }
+
+        private String next () {
+            // a lazy source, like a database cursor, may block on I/O
+            chatsLock.lock();
+            try {
+                return chats.hasNext()
+                       ? chats.next()
+                       : null;
+            } finally {
+                chatsLock.unlock();
+            }
+        }
+    }
+}
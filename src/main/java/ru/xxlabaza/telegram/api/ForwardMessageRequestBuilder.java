@@ -23,6 +23,8 @@
  */
 package ru.xxlabaza.telegram.api;
 
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import ru.xxlabaza.telegram.api.type.Message;
 
 /**
@@ -44,8 +46,8 @@ public final class ForwardMessageRequestBuilder extends AbstractRequestBuilder<M
 
     private Integer message;
 
-    ForwardMessageRequestBuilder (TelegramApi api) {
-        super(api);
+    ForwardMessageRequestBuilder (TelegramApi api, Executor executor) {
+        super(api, executor);
     }
 
     /**
@@ -87,7 +89,12 @@ public final class ForwardMessageRequestBuilder extends AbstractRequestBuilder<M
     }
 
     @Override
-    protected Response<Message> getResponse () {
+    protected String chat () {
+        return chat;
+    }
+
+    @Override
+    protected Supplier<Response<Message>> prepare () {
         if (chat == null) {
             throw new IllegalArgumentException("chat value is required");
         }
@@ -97,6 +104,7 @@ public final class ForwardMessageRequestBuilder extends AbstractRequestBuilder<M
         if (message == null) {
             throw new IllegalArgumentException("message value is required");
         }
-        return api.forwardMessage(chat, fromChat, message);
+        ForwardMessageParameters parameters = new ForwardMessageParameters(chat, fromChat, message);
+        return () -> api.forwardMessage(parameters);
     }
 }
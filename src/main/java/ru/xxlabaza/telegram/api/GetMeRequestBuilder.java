@@ -23,6 +23,8 @@
  */
 package ru.xxlabaza.telegram.api;
 
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import ru.xxlabaza.telegram.api.type.User;
 
 /**
@@ -38,8 +40,8 @@ import ru.xxlabaza.telegram.api.type.User;
  */
 public final class GetMeRequestBuilder extends AbstractRequestBuilder<User> {
 
-    GetMeRequestBuilder (TelegramApi api) {
-        super(api);
+    GetMeRequestBuilder (TelegramApi api, Executor executor) {
+        super(api, executor);
     }
 
     /**
@@ -48,7 +50,7 @@ public final class GetMeRequestBuilder extends AbstractRequestBuilder<User> {
      * @return Returns basic information about the bot in form of a {@link User} object.
      */
     @Override
-    protected Response<User> getResponse () {
-        return api.getMe();
+    protected Supplier<Response<User>> prepare () {
+        return api::getMe;
     }
 }
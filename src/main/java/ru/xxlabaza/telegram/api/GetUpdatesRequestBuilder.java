@@ -24,12 +24,16 @@
 package ru.xxlabaza.telegram.api;
 
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import ru.xxlabaza.telegram.api.type.Update;
 
 /**
  * A request builder for receiving incoming updates using long polling.
  * <p>
- * On success, the sent {@link List} of {@link Update} is returned.
+ * On success, the sent {@link List} of {@link Update} is returned. Alternatively, updates can be streamed to a
+ * consumer one by one, as they are parsed, with {@link #stream(Consumer)}.
  *
  * @author Artem Labazin
  *
@@ -45,8 +49,8 @@ public final class GetUpdatesRequestBuilder extends AbstractRequestBuilder<List<
 
     private Integer timeout;
 
-    GetUpdatesRequestBuilder (TelegramApi api) {
-        super(api);
+    GetUpdatesRequestBuilder (TelegramApi api, Executor executor) {
+        super(api, executor);
     }
 
     /**
@@ -89,8 +93,25 @@ public final class GetUpdatesRequestBuilder extends AbstractRequestBuilder<List<
         return this;
     }
 
+    /**
+     * Receives updates, passing each of them to the consumer as soon as it is parsed, while the rest of the response is
+     * still being read. Unlike {@link #call()}, the received updates are not collected into a list, and processing of
+     * the first update overlaps with decoding of the others.
+     *
+     * @param consumer a consumer of received updates, called on the current thread. Its exception aborts the stream
+     *                 and is rethrown.
+     *
+     * @return the number of received updates
+     */
+    public int stream (Consumer<? super Update> consumer) {
+        GetUpdatesParameters parameters = new GetUpdatesParameters(offset, limit, timeout);
+        // the decode time of the call's flight recorder event includes the consumer's time
+        return call(() -> UpdateStreamDecoder.stream(consumer, () -> api.streamUpdates(parameters)), null);
+    }
+
     @Override
-    protected Response<List<Update>> getResponse () {
-        return api.getUpdates(offset, limit, timeout);
+    protected Supplier<Response<List<Update>>> prepare () {
+        GetUpdatesParameters parameters = new GetUpdatesParameters(offset, limit, timeout);
+        return () -> api.getUpdates(parameters);
     }
 }
@@ -0,0 +1,153 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api;
+
+import feign.Client;
+import feign.Request;
+import feign.Request.Options;
+import feign.Response;
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+import javax.net.ssl.SSLContext;
+
+/**
+ * An HTTP/2 transport for {@link TelegramService}, backed by {@code java.net.http.HttpClient}.
+ * <p>
+ * Concurrent calls are multiplexed as streams over a single connection per host, instead of occupying a connection
+ * each. Servers without HTTP/2 support are talked to over HTTP/1.1.
+ * <p>
+ * This is the variant for Java versions before 11, which have no {@code java.net.http} module. It falls back to
+ * Feign's default HTTP/1.1 client with the same settings, see {@link #isSupported()}. On Java 11 and later, the
+ * multi-release jar provides the HTTP/2 variant.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 11:58:37 PM
+ *
+ * @version 1.0.0
+ */
+public final class Http2Client implements Client {
+
+    private static final Logger LOGGER = Logger.getLogger(Http2Client.class.getName());
+
+    private static final AtomicBoolean WARNED = new AtomicBoolean();
+
+    private final Client delegate;
+
+    private final int connectTimeout;
+
+    private Http2Client (Builder builder) {
+        delegate = new Client.Default(builder.sslContext != null
+                                      ? builder.sslContext.getSocketFactory()
+                                      : null,
+                                      null);
+        connectTimeout = (int) Math.min(builder.connectTimeout, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return true if the runtime supports the HTTP/2 transport, false if HTTP/1.1 is used instead
+     */
+    public static boolean isSupported () {
+        return false;
+    }
+
+    /**
+     * @return {@link Builder} which builds HTTP/2 client
+     */
+    public static Builder builder () {
+        return new Builder();
+    }
+
+    @Override
+    public Response execute (Request request, Options options) throws IOException {
+        return delegate.execute(request, new Options(connectTimeout, options.readTimeoutMillis()));
+    }
+
+    /**
+     * A builder of {@link Http2Client} with connection settings.
+     */
+    public static final class Builder {
+
+        private long connectTimeout;
+
+        private SSLContext sslContext;
+
+        private Builder () {
+            connectTimeout = TimeUnit.SECONDS.toMillis(10);
+        }
+
+        /**
+         * Optional value. Defaults to 10 seconds.
+         * <p>
+         * Connections are shared by many calls, so the service's connect timeout does not apply to them.
+         *
+         * @param timeout maximum time to establish a connection
+         * @param unit    timeout's time unit
+         *
+         * @return {@link Builder} which builds HTTP/2 client
+         */
+        public Builder connectTimeout (long timeout, TimeUnit unit) {
+            connectTimeout = unit.toMillis(timeout);
+            return this;
+        }
+
+        /**
+         * Optional value. By default the client creates its own executor.
+         * <p>
+         * The HTTP/1.1 fallback runs calls on their callers' threads and does not use it.
+         *
+         * @param executor executor of the client's asynchronous tasks
+         *
+         * @return {@link Builder} which builds HTTP/2 client
+         */
+        public Builder executor (Executor executor) {
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to {@link SSLContext#getDefault()}.
+         *
+         * @param sslContext TLS context of HTTPS connections
+         *
+         * @return {@link Builder} which builds HTTP/2 client
+         */
+        public Builder sslContext (SSLContext sslContext) {
+            this.sslContext = sslContext;
+            return this;
+        }
+
+        /**
+         * @return a new {@link Http2Client} instance
+         */
+        public Http2Client build () {
+            if (WARNED.compareAndSet(false, true)) {
+                LOGGER.warning("HTTP/2 transport requires Java 11 or later, HTTP/1.1 is used instead");
+            }
+            return new Http2Client(this);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.module.afterburner.deser.DeserializerModifier;
+import com.fasterxml.jackson.module.afterburner.ser.SerializerModifier;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import ru.xxlabaza.telegram.api.json.TelegramTypesModule;
+import ru.xxlabaza.telegram.api.type.Chat;
+import ru.xxlabaza.telegram.api.type.Contact;
+import ru.xxlabaza.telegram.api.type.ForceReply;
+import ru.xxlabaza.telegram.api.type.Location;
+import ru.xxlabaza.telegram.api.type.Message;
+import ru.xxlabaza.telegram.api.type.PhotoSize;
+import ru.xxlabaza.telegram.api.type.ReplyKeyboardHide;
+import ru.xxlabaza.telegram.api.type.ReplyKeyboardMarkup;
+import ru.xxlabaza.telegram.api.type.ResponseParameters;
+import ru.xxlabaza.telegram.api.type.Sticker;
+import ru.xxlabaza.telegram.api.type.Update;
+import ru.xxlabaza.telegram.api.type.User;
+
+/**
+ * Jackson mappers for Telegram API types.
+ * <p>
+ * A mapper caches serializers and deserializers of the types it has seen, so all services share one mapper by
+ * default. Updates and the types they consist of are bound by hand-written streaming codecs
+ * ({@link TelegramTypesModule}), other types by bytecode-generated accessors instead of reflection (Afterburner). The
+ * mapper ignores unknown properties, which newer Bot API versions add, and omits null values. The shared mapper is
+ * warmed up at creation: (de)serializers of all request, response and {@code ru.xxlabaza.telegram.api.type} classes
+ * are resolved before the first call.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 8:47:23 PM
+ *
+ * @version 1.0.0
+ */
+public final class ObjectMappers {
+
+    private static final Class<?>[] TYPES = {
+        Chat.class, Contact.class, ForceReply.class, Location.class, Message.class, PhotoSize.class,
+        ReplyKeyboardHide.class, ReplyKeyboardMarkup.class, ResponseParameters.class, Sticker.class, Update.class,
+        User.class
+    };
+
+    private static final ObjectMapper SHARED;
+
+    static {
+        SHARED = warmUp(create());
+    }
+
+    /**
+     * Returns the mapper shared by services by default. It must not be reconfigured.
+     *
+     * @return the shared, warmed up mapper
+     */
+    public static ObjectMapper shared () {
+        return SHARED;
+    }
+
+    /**
+     * Creates a new mapper with the settings of the shared one, for further configuration. Once configured, it can be
+     * warmed up with {@link #warmUp(ObjectMapper)}.
+     *
+     * @return a new mapper
+     */
+    public static ObjectMapper create () {
+        return new ObjectMapper()
+                .registerModule(new AcceleratedBindingModule())
+                .registerModule(new TelegramTypesModule())
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    }
+
+    /**
+     * Resolves and caches (de)serializers of all Telegram API types, so the first calls do not pay for it.
+     *
+     * @param mapper a configured mapper
+     *
+     * @return the same mapper
+     */
+    public static ObjectMapper warmUp (ObjectMapper mapper) {
+        for (Method method : TelegramApi.class.getMethods()) {
+            mapper.canDeserialize(mapper.constructType(method.getGenericReturnType()));
+            for (Class<?> parameter : method.getParameterTypes()) {
+                mapper.canSerialize(parameter);
+            }
+        }
+        for (Class<?> type : TYPES) {
+            mapper.canSerialize(type);
+            mapper.canDeserialize(mapper.constructType(type));
+        }
+        return mapper;
+    }
+
+    private ObjectMappers () {
+    }
+
+    /**
+     * The Afterburner module, which does not generate serialization accessors for non-public classes, such as request
+     * parameters. On newer JDKs, accessors are defined in a separate class loader, which can not access them.
+     */
+    private static final class AcceleratedBindingModule extends Module {
+
+        @Override
+        public String getModuleName () {
+            return "AcceleratedBindingModule";
+        }
+
+        @Override
+        public Version version () {
+            return Version.unknownVersion();
+        }
+
+        @Override
+        public void setupModule (SetupContext context) {
+            context.addBeanDeserializerModifier(new DeserializerModifier(null, true));
+            context.addBeanSerializerModifier(new PublicSerializerModifier(new SerializerModifier(null)));
+        }
+    }
+
+    private static final class PublicSerializerModifier extends BeanSerializerModifier {
+
+        private final BeanSerializerModifier delegate;
+
+        PublicSerializerModifier (BeanSerializerModifier delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public List<BeanPropertyWriter> changeProperties (SerializationConfig config,
+                                                          BeanDescription description,
+                                                          List<BeanPropertyWriter> properties) {
+            return Modifier.isPublic(description.getBeanClass().getModifiers())
+                   ? delegate.changeProperties(config, description, properties)
+                   : properties;
+        }
+    }
+}
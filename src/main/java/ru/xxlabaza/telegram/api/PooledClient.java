@@ -0,0 +1,297 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api;
+
+import feign.Client;
+import feign.Request;
+import feign.Request.Options;
+import feign.Response;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.StatusLine;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.ssl.SSLContexts;
+
+/**
+ * A pooled HTTP transport for {@link TelegramService}, backed by Apache HttpClient.
+ * <p>
+ * Keeps warm keep-alive connections to api.telegram.org and resumes cached TLS sessions, so request bursts do not pay
+ * for TCP and TLS handshakes. Connect and read timeouts are taken from the service's settings. Requires
+ * <b>org.apache.httpcomponents:httpclient</b> on the classpath.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 1:24:10 PM
+ *
+ * @version 1.0.0
+ */
+public final class PooledClient implements Client, Closeable {
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+
+    private final CloseableHttpClient httpClient;
+
+    private PooledClient (Builder builder) {
+        SSLContext sslContext = SSLContexts.createDefault();
+        SSLSessionContext sessionContext = sslContext.getClientSessionContext();
+        sessionContext.setSessionCacheSize(builder.tlsSessionCacheSize);
+        sessionContext.setSessionTimeout((int) builder.tlsSessionTimeout);
+
+        connectionManager = new PoolingHttpClientConnectionManager(
+                RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", new SSLConnectionSocketFactory(sslContext))
+                .build(),
+                null, null, null,
+                builder.connectionTimeToLive, TimeUnit.MILLISECONDS
+        );
+        connectionManager.setMaxTotal(builder.maxConnections);
+        connectionManager.setDefaultMaxPerRoute(builder.maxConnectionsPerRoute);
+        connectionManager.setValidateAfterInactivity(builder.validateAfterInactivity);
+
+        httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(builder.idleTimeout, TimeUnit.MILLISECONDS)
+                .disableCookieManagement()
+                .disableRedirectHandling()
+                .build();
+    }
+
+    /**
+     * @return {@link Builder} which builds pooled client
+     */
+    public static Builder builder () {
+        return new Builder();
+    }
+
+    @Override
+    public Response execute (Request request, Options options) throws IOException {
+        HttpResponse httpResponse = httpClient.execute(toHttpRequest(request, options));
+        return toResponse(httpResponse);
+    }
+
+    /**
+     * Closes all pooled connections and stops the idle connections evictor.
+     */
+    @Override
+    public void close () throws IOException {
+        httpClient.close();
+    }
+
+    private HttpUriRequest toHttpRequest (Request request, Options options) {
+        RequestConfig config = RequestConfig.custom()
+                .setConnectTimeout(options.connectTimeoutMillis())
+                .setSocketTimeout(options.readTimeoutMillis())
+                .build();
+
+        org.apache.http.client.methods.RequestBuilder builder = org.apache.http.client.methods.RequestBuilder
+                .create(request.method())
+                .setUri(request.url())
+                .setConfig(config);
+
+        for (Map.Entry<String, Collection<String>> header : request.headers().entrySet()) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(header.getKey())) {
+                continue;
+            }
+            for (String value : header.getValue()) {
+                builder.addHeader(header.getKey(), value);
+            }
+        }
+        if (request.body() != null) {
+            builder.setEntity(new ByteArrayEntity(request.body()));
+        }
+        return builder.build();
+    }
+
+    private Response toResponse (HttpResponse httpResponse) throws IOException {
+        StatusLine statusLine = httpResponse.getStatusLine();
+
+        Map<String, Collection<String>> headers = new HashMap<>();
+        for (Header header : httpResponse.getAllHeaders()) {
+            Collection<String> values = headers.get(header.getName());
+            if (values == null) {
+                values = new ArrayList<>(1);
+                headers.put(header.getName(), values);
+            }
+            values.add(header.getValue());
+        }
+
+        HttpEntity entity = httpResponse.getEntity();
+        if (entity == null) {
+            return Response.create(statusLine.getStatusCode(), statusLine.getReasonPhrase(), headers, (byte[]) null);
+        }
+        long length = entity.getContentLength();
+        return Response.create(statusLine.getStatusCode(), statusLine.getReasonPhrase(), headers,
+                               entity.getContent(),
+                               length >= 0 && length <= Integer.MAX_VALUE
+                               ? (int) length
+                               : null);
+    }
+
+    /**
+     * A builder of {@link PooledClient} with connection pool and TLS settings.
+     */
+    public static final class Builder {
+
+        private int maxConnections;
+
+        private int maxConnectionsPerRoute;
+
+        private long idleTimeout;
+
+        private long connectionTimeToLive;
+
+        private int validateAfterInactivity;
+
+        private int tlsSessionCacheSize;
+
+        private long tlsSessionTimeout;
+
+        private Builder () {
+            maxConnections = 200;
+            maxConnectionsPerRoute = 100;
+            idleTimeout = TimeUnit.SECONDS.toMillis(30);
+            connectionTimeToLive = -1;
+            validateAfterInactivity = (int) TimeUnit.SECONDS.toMillis(2);
+            tlsSessionCacheSize = 1000;
+            tlsSessionTimeout = TimeUnit.HOURS.toSeconds(24);
+        }
+
+        /**
+         * Optional value. Defaults to 200.
+         *
+         * @param maxConnections maximum number of pooled connections in total
+         *
+         * @return {@link Builder} which builds pooled client
+         */
+        public Builder maxConnections (int maxConnections) {
+            this.maxConnections = maxConnections;
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to 100.
+         *
+         * @param maxConnectionsPerRoute maximum number of pooled connections to a single host
+         *
+         * @return {@link Builder} which builds pooled client
+         */
+        public Builder maxConnectionsPerRoute (int maxConnectionsPerRoute) {
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to 30 seconds.
+         *
+         * @param timeout time after which an unused connection is evicted from the pool
+         * @param unit    timeout's time unit
+         *
+         * @return {@link Builder} which builds pooled client
+         */
+        public Builder idleTimeout (long timeout, TimeUnit unit) {
+            idleTimeout = unit.toMillis(timeout);
+            return this;
+        }
+
+        /**
+         * Optional value. By default connections live as long as the server keeps them alive.
+         *
+         * @param timeToLive maximum lifetime of a pooled connection
+         * @param unit       time to live's time unit
+         *
+         * @return {@link Builder} which builds pooled client
+         */
+        public Builder connectionTimeToLive (long timeToLive, TimeUnit unit) {
+            connectionTimeToLive = unit.toMillis(timeToLive);
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to 2 seconds.
+         *
+         * @param inactivity period of inactivity after which a pooled connection is checked before being reused
+         * @param unit       inactivity's time unit
+         *
+         * @return {@link Builder} which builds pooled client
+         */
+        public Builder validateAfterInactivity (long inactivity, TimeUnit unit) {
+            validateAfterInactivity = (int) unit.toMillis(inactivity);
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to 1000.
+         *
+         * @param tlsSessionCacheSize number of TLS sessions cached for abbreviated handshakes
+         *
+         * @return {@link Builder} which builds pooled client
+         */
+        public Builder tlsSessionCacheSize (int tlsSessionCacheSize) {
+            this.tlsSessionCacheSize = tlsSessionCacheSize;
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to 24 hours.
+         *
+         * @param timeout lifetime of a cached TLS session
+         * @param unit    timeout's time unit
+         *
+         * @return {@link Builder} which builds pooled client
+         */
+        public Builder tlsSessionTimeout (long timeout, TimeUnit unit) {
+            tlsSessionTimeout = unit.toSeconds(timeout);
+            return this;
+        }
+
+        /**
+         * @return a new {@link PooledClient} instance
+         */
+        public PooledClient build () {
+            return new PooledClient(this);
+        }
+    }
+}
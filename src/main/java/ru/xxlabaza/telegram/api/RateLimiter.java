@@ -0,0 +1,336 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * An outbound rate limiter, which paces sent messages according to Telegram's flood limits: a global limit for the
+ * bot, and a limit per chat, which is different for private chats and for groups or channels.
+ * <p>
+ * Each limit is a token bucket in the form of the generic cell rate algorithm: the theoretical arrival time of the
+ * next message, optionally with a tolerance for short bursts. A caller first waits for a slot of its chat, and only
+ * then reserves the earliest global slot, so a chat with a full bucket delays its own messages only, while messages
+ * to other chats go out at the maximum allowed rate. The global bucket is a single atomic value. Chat buckets are
+ * kept per chat and dropped once their chat has been idle long enough to have a full bucket again.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 4:02:19 PM
+ *
+ * @version 1.0.0
+ */
+public final class RateLimiter {
+
+    // reservations between sweeps of idle chats
+    private static final int SWEEP_PERIOD = 4096;
+
+    private final LongSupplier clock;
+
+    private final long origin;
+
+    private final long globalInterval;
+
+    private final long globalTolerance;
+
+    private final long privateChatInterval;
+
+    private final long groupChatInterval;
+
+    private final int chatBurst;
+
+    private final AtomicLong global;
+
+    private final ConcurrentMap<String, Long> chats;
+
+    private final AtomicInteger reservations;
+
+    private RateLimiter (Builder builder) {
+        clock = builder.clock;
+        origin = clock.getAsLong();
+        globalInterval = builder.globalInterval;
+        globalTolerance = (builder.globalBurst - 1) * builder.globalInterval;
+        privateChatInterval = builder.privateChatInterval;
+        groupChatInterval = builder.groupChatInterval;
+        chatBurst = builder.chatBurst;
+        global = new AtomicLong();
+        chats = new ConcurrentHashMap<>();
+        reservations = new AtomicInteger();
+    }
+
+    /**
+     * Creates a builder with Telegram's default limits: 30 messages per second in total, 1 message per second in a
+     * private chat and 20 messages per minute in a group or channel.
+     *
+     * @return {@link Builder} which builds rate limiter
+     */
+    public static Builder builder () {
+        return new Builder();
+    }
+
+    /**
+     * Blocks until a message can be sent to the chat.
+     *
+     * @param chat unique identifier for the target chat or username of the target channel
+     *             (in the format @channelusername)
+     *
+     * @exception IllegalStateException if interrupted while waiting. The thread's interrupt status is kept.
+     */
+    public void acquire (String chat) {
+        if (chat != null) {
+            await(reserveChat(chat));
+        }
+        long delay = reserveGlobal(chat);
+        await(delay);
+    }
+
+    /**
+     * Reserves a slot of the chat.
+     *
+     * @param chat unique identifier for the target chat or username of the target channel
+     *
+     * @return nanoseconds to wait before reserving a global slot, zero or negative if it can be reserved immediately
+     */
+    long reserveChat (String chat) {
+        long now = now();
+        long interval = interval(chat);
+        long tolerance = (chatBurst - 1) * interval;
+        long[] allowedAt = new long[1];
+        chats.compute(chat, (key, theoreticalArrival) -> {
+            long arrival = theoreticalArrival == null
+                           ? now
+                           : Math.max(now, theoreticalArrival);
+            allowedAt[0] = Math.max(now, arrival - tolerance);
+            return arrival + interval;
+        });
+        if (reservations.incrementAndGet() % SWEEP_PERIOD == 0) {
+            sweep(now);
+        }
+        return allowedAt[0] - now;
+    }
+
+    /**
+     * Reserves the earliest global slot. If the message is delayed by it, the chat's next slot moves along, so the
+     * chat's messages keep their spacing.
+     *
+     * @param chat unique identifier for the target chat, or null if the message has no chat
+     *
+     * @return nanoseconds to wait before sending, zero or negative if the message can be sent immediately
+     */
+    long reserveGlobal (String chat) {
+        long now = now();
+        long allowedAt;
+        while (true) {
+            long theoreticalArrival = global.get();
+            allowedAt = Math.max(now, theoreticalArrival - globalTolerance);
+            if (global.compareAndSet(theoreticalArrival, Math.max(now, theoreticalArrival) + globalInterval)) {
+                break;
+            }
+        }
+        if (chat != null && allowedAt > now) {
+            long sentAt = allowedAt;
+            chats.computeIfPresent(chat, (key, theoreticalArrival) ->
+                                   Math.max(theoreticalArrival, sentAt + interval(chat)));
+        }
+        return allowedAt - now;
+    }
+
+    /**
+     * @return number of chats, which buckets are kept
+     */
+    int trackedChats () {
+        return chats.size();
+    }
+
+    private void sweep (long now) {
+        for (Map.Entry<String, Long> entry : chats.entrySet()) {
+            // a bucket, which theoretical arrival time has passed, is full, as if the chat has never been seen
+            if (entry.getValue() <= now) {
+                chats.remove(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private long now () {
+        return clock.getAsLong() - origin;
+    }
+
+    private long interval (String chat) {
+        return isGroup(chat)
+               ? groupChatInterval
+               : privateChatInterval;
+    }
+
+    private static void await (long delay) {
+        if (delay <= 0) {
+            return;
+        }
+        long deadline = System.nanoTime() + delay;
+        do {
+            LockSupport.parkNanos(RateLimiter.class, delay);
+            if (Thread.currentThread().isInterrupted()) {
+                throw new IllegalStateException("interrupted while waiting for rate limiter");
+            }
+            delay = deadline - System.nanoTime();
+        } while (delay > 0);
+    }
+
+    private static boolean isGroup (String chat) {
+        return !chat.isEmpty() && (chat.charAt(0) == '-' || chat.charAt(0) == '@');
+    }
+
+    /**
+     * A builder of {@link RateLimiter} with custom limits.
+     */
+    public static final class Builder {
+
+        private long globalInterval;
+
+        private int globalBurst;
+
+        private long privateChatInterval;
+
+        private long groupChatInterval;
+
+        private int chatBurst;
+
+        private LongSupplier clock;
+
+        private Builder () {
+            globalInterval = TimeUnit.SECONDS.toNanos(1) / 30;
+            globalBurst = 1;
+            privateChatInterval = TimeUnit.SECONDS.toNanos(1);
+            groupChatInterval = TimeUnit.MINUTES.toNanos(1) / 20;
+            chatBurst = 1;
+            clock = System::nanoTime;
+        }
+
+        /**
+         * Optional value. Defaults to 30 messages per second.
+         *
+         * @param messages maximum number of messages sent by the bot per period
+         * @param period   length of period
+         * @param unit     period's time unit
+         *
+         * @return {@link Builder} which builds rate limiter
+         */
+        public Builder globalLimit (int messages, long period, TimeUnit unit) {
+            globalInterval = interval(messages, period, unit);
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to 1, i.e. messages are evenly spaced.
+         *
+         * @param messages number of messages, which the bot can send at once after being idle. Over any period, at
+         *                 most this number of messages is sent in excess of the global limit.
+         *
+         * @return {@link Builder} which builds rate limiter
+         */
+        public Builder globalBurst (int messages) {
+            globalBurst = burst(messages);
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to 1 message per second.
+         *
+         * @param messages maximum number of messages sent to a private chat per period
+         * @param period   length of period
+         * @param unit     period's time unit
+         *
+         * @return {@link Builder} which builds rate limiter
+         */
+        public Builder privateChatLimit (int messages, long period, TimeUnit unit) {
+            privateChatInterval = interval(messages, period, unit);
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to 20 messages per minute.
+         *
+         * @param messages maximum number of messages sent to a group or channel per period
+         * @param period   length of period
+         * @param unit     period's time unit
+         *
+         * @return {@link Builder} which builds rate limiter
+         */
+        public Builder groupChatLimit (int messages, long period, TimeUnit unit) {
+            groupChatInterval = interval(messages, period, unit);
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to 1, i.e. messages to a chat are evenly spaced.
+         *
+         * @param messages number of messages, which can be sent at once to a chat, which has been idle
+         *
+         * @return {@link Builder} which builds rate limiter
+         */
+        public Builder chatBurst (int messages) {
+            chatBurst = burst(messages);
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to {@link System#nanoTime()}.
+         *
+         * @param clock a source of monotonic time in nanoseconds
+         *
+         * @return {@link Builder} which builds rate limiter
+         */
+        Builder clock (LongSupplier clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * @return a new {@link RateLimiter} instance
+         */
+        public RateLimiter build () {
+            return new RateLimiter(this);
+        }
+
+        private static long interval (int messages, long period, TimeUnit unit) {
+            if (messages < 1 || period < 1) {
+                throw new IllegalArgumentException("messages and period must be positive");
+            }
+            return unit.toNanos(period) / messages;
+        }
+
+        private static int burst (int messages) {
+            if (messages < 1) {
+                throw new IllegalArgumentException("burst must be positive");
+            }
+            return messages;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.RetryableException;
+import feign.Util;
+import feign.codec.ErrorDecoder;
+import java.io.IOException;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decodes unsuccessful HTTP responses into {@link RemoteApiException} with the error code and response parameters
+ * reported by Telegram.
+ * <p>
+ * If retrying is enabled, flood control errors (429) and server errors (5xx) are wrapped into
+ * {@link RetryableException}, with the retry time set to the server's retry_after, if any.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 4:52:33 PM
+ *
+ * @version 1.0.0
+ */
+class RemoteApiErrorDecoder implements ErrorDecoder {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private static final int INTERNAL_SERVER_ERROR = 500;
+
+    private final ObjectMapper mapper;
+
+    private final boolean retrying;
+
+    RemoteApiErrorDecoder (ObjectMapper mapper, boolean retrying) {
+        this.mapper = mapper;
+        this.retrying = retrying;
+    }
+
+    @Override
+    public Exception decode (String methodKey, feign.Response response) {
+        RemoteApiException exception = toException(response);
+        if (!retrying || (response.status() != TOO_MANY_REQUESTS && response.status() < INTERNAL_SERVER_ERROR)) {
+            return exception;
+        }
+
+        Date retryAfter = exception.getRetryAfter() == null
+                          ? null
+                          : new Date(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(exception.getRetryAfter()));
+        return new RetryableException(exception.getMessage(), exception, retryAfter);
+    }
+
+    private RemoteApiException toException (feign.Response response) {
+        if (response.body() != null) {
+            try {
+                byte[] body = Util.toByteArray(response.body().asInputStream());
+                Response<?> apiResponse = mapper.readValue(body, Response.class);
+                if (apiResponse.getErrorCode() == null) {
+                    apiResponse.setErrorCode(response.status());
+                }
+                return new RemoteApiException(apiResponse);
+            } catch (IOException ex) {
+                // not a Telegram API response, for example an error page of a proxy
+            } finally {
+                Util.ensureClosed(response.body());
+            }
+        }
+        return new RemoteApiException(response.status(), response.reason());
+    }
+}
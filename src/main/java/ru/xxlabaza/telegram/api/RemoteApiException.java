@@ -23,7 +23,12 @@
  */
 package ru.xxlabaza.telegram.api;
 
+import lombok.Getter;
+import ru.xxlabaza.telegram.api.type.ResponseParameters;
+
 /**
+ * An unsuccessful call of Telegram API. Carries the error code and, if the server reported them, the time to wait
+ * before repeating the request and the identifier of a supergroup the chat was migrated to.
  *
  * @author Artem Labazin
  *
@@ -35,11 +40,52 @@ public class RemoteApiException extends RuntimeException {
 
     private static final long serialVersionUID = -1351001281896969587L;
 
+    /**
+     * Error code of the response, usually equal to its HTTP status, or null if unknown
+     */
+    @Getter
+    private final Integer errorCode;
+
+    /**
+     * In case of exceeding flood control, the number of seconds left to wait before the request can be repeated, or
+     * null
+     */
+    @Getter
+    private final Integer retryAfter;
+
+    /**
+     * The identifier of a supergroup the target group has been migrated to, or null
+     */
+    @Getter
+    private final Long migrateTo;
+
     public RemoteApiException () {
-        super();
+        this((String) null);
     }
 
     public RemoteApiException (String message) {
         super(message);
+        errorCode = null;
+        retryAfter = null;
+        migrateTo = null;
+    }
+
+    public RemoteApiException (Response<?> response) {
+        super(response.getError());
+        errorCode = response.getErrorCode();
+        ResponseParameters parameters = response.getParameters();
+        retryAfter = parameters == null
+                     ? null
+                     : parameters.getRetryAfter();
+        migrateTo = parameters == null
+                    ? null
+                    : parameters.getMigrateTo();
+    }
+
+    public RemoteApiException (int errorCode, String message) {
+        super(message);
+        this.errorCode = errorCode;
+        retryAfter = null;
+        migrateTo = null;
     }
 }
@@ -0,0 +1,120 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import ru.xxlabaza.telegram.api.type.ForceReply;
+import ru.xxlabaza.telegram.api.type.ReplyKeyboardHide;
+import ru.xxlabaza.telegram.api.type.ReplyKeyboardMarkup;
+
+/**
+ * An immutable, pre-serialized reply markup.
+ * <p>
+ * The markup object is serialized to JSON once, at creation, and its cached bytes are written as-is into every
+ * request it is attached to. Create one for each keyboard which is sent over and over again, and reuse it:
+ * <pre>
+ * ReplyMarkup MENU = ReplyMarkup.of(keyboard);
+ * ...
+ * service.sendMessage().chat(chat).text(text).replyMarkup(MENU).call();
+ * </pre>
+ * Later changes of the source markup object do not affect the snapshot.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 2:41:18 PM
+ *
+ * @version 1.0.0
+ */
+@JsonSerialize(using = ReplyMarkup.Serializer.class)
+public final class ReplyMarkup {
+
+    private final SerializedString json;
+
+    private ReplyMarkup (Object markup) {
+        try {
+            json = new SerializedString(ObjectMappers.shared().writeValueAsString(markup));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("unable to serialize reply markup", ex);
+        }
+        // SerializedString encodes its UTF-8 bytes lazily and caches them. Encoding them here means the generators of
+        // requests copy cached bytes, rather than the first request doing the encoding.
+        json.asUnquotedUTF8();
+    }
+
+    /**
+     * @param replyKeyboardMarkup a custom reply keyboard
+     *
+     * @return serialized snapshot of the keyboard
+     */
+    public static ReplyMarkup of (ReplyKeyboardMarkup replyKeyboardMarkup) {
+        return new ReplyMarkup(replyKeyboardMarkup);
+    }
+
+    /**
+     * @param replyKeyboardHide instructions to hide keyboard
+     *
+     * @return serialized snapshot of the instructions
+     */
+    public static ReplyMarkup of (ReplyKeyboardHide replyKeyboardHide) {
+        return new ReplyMarkup(replyKeyboardHide);
+    }
+
+    /**
+     * @param forceReply instructions to force a reply from the user
+     *
+     * @return serialized snapshot of the instructions
+     */
+    public static ReplyMarkup of (ForceReply forceReply) {
+        return new ReplyMarkup(forceReply);
+    }
+
+    /**
+     * @return JSON representation of the markup
+     */
+    @Override
+    public String toString () {
+        return json.getValue();
+    }
+
+    static class Serializer extends StdSerializer<ReplyMarkup> {
+
+        private static final long serialVersionUID = 7720918346095813402L;
+
+        Serializer () {
+            super(ReplyMarkup.class);
+        }
+
+        @Override
+        public void serialize (ReplyMarkup value, JsonGenerator generator, SerializerProvider provider
+        ) throws IOException {
+            generator.writeRawValue(value.json);
+        }
+    }
+}
@@ -23,6 +23,9 @@
  */
 package ru.xxlabaza.telegram.api;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 /**
  *
  * @author Artem Labazin
@@ -34,4 +37,8 @@ package ru.xxlabaza.telegram.api;
 interface RequestBuilder<T> {
 
     T call ();
+
+    CompletableFuture<T> callAsync ();
+
+    CompletableFuture<T> callAsync (Executor executor);
 }
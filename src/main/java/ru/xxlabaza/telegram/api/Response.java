@@ -27,6 +27,7 @@ package ru.xxlabaza.telegram.api;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.io.Serializable;
 import lombok.Data;
+import ru.xxlabaza.telegram.api.type.ResponseParameters;
 
 /**
  *
@@ -48,4 +49,9 @@ public class Response<T> implements Serializable {
 
     @JsonProperty("description")
     private String error;
+
+    @JsonProperty("error_code")
+    private Integer errorCode;
+
+    private ResponseParameters parameters;
 }
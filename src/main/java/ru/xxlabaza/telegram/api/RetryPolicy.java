@@ -0,0 +1,191 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api;
+
+import feign.RetryableException;
+import feign.Retryer;
+import java.util.Date;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A retry policy for failed calls.
+ * <p>
+ * After a flood control error the call is repeated exactly as soon as the server allows it, according to the error's
+ * retry_after. Server errors and I/O errors are retried with exponential backoff and jitter. When attempts are
+ * exhausted, the last {@link RemoteApiException} is thrown.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 5:06:48 PM
+ *
+ * @version 1.0.0
+ */
+public final class RetryPolicy implements Retryer {
+
+    private final int maxAttempts;
+
+    private final long initialBackoff;
+
+    private final long maxBackoff;
+
+    private final long maxRetryAfter;
+
+    private int attempt;
+
+    private RetryPolicy (Builder builder) {
+        this(builder.maxAttempts, builder.initialBackoff, builder.maxBackoff, builder.maxRetryAfter);
+    }
+
+    private RetryPolicy (int maxAttempts, long initialBackoff, long maxBackoff, long maxRetryAfter) {
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.maxRetryAfter = maxRetryAfter;
+        attempt = 1;
+    }
+
+    /**
+     * @return {@link Builder} which builds retry policy
+     */
+    public static Builder builder () {
+        return new Builder();
+    }
+
+    @Override
+    public void continueOrPropagate (RetryableException ex) {
+        long delay = delay(ex);
+        if (attempt++ >= maxAttempts || delay > maxRetryAfter) {
+            if (ex.getCause() instanceof RemoteApiException) {
+                throw (RemoteApiException) ex.getCause();
+            }
+            throw ex;
+        }
+
+        try {
+            TimeUnit.MILLISECONDS.sleep(delay);
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            throw ex;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("PMD.ProperCloneImplementation")
+    public Retryer clone () {
+        return new RetryPolicy(maxAttempts, initialBackoff, maxBackoff, maxRetryAfter);
+    }
+
+    private long delay (RetryableException ex) {
+        Date retryAfter = ex.retryAfter();
+        if (retryAfter != null) {
+            return Math.max(0, retryAfter.getTime() - System.currentTimeMillis());
+        }
+        long backoff = Math.min(maxBackoff, initialBackoff << Math.min(attempt - 1, 30));
+        return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    }
+
+    /**
+     * A builder of {@link RetryPolicy} with custom attempts and backoff settings.
+     */
+    public static final class Builder {
+
+        private int maxAttempts;
+
+        private long initialBackoff;
+
+        private long maxBackoff;
+
+        private long maxRetryAfter;
+
+        private Builder () {
+            maxAttempts = 5;
+            initialBackoff = 100;
+            maxBackoff = TimeUnit.SECONDS.toMillis(10);
+            maxRetryAfter = TimeUnit.MINUTES.toMillis(1);
+        }
+
+        /**
+         * Optional value. Defaults to 5.
+         *
+         * @param maxAttempts maximum number of attempts of a call, including the first one
+         *
+         * @return {@link Builder} which builds retry policy
+         */
+        public Builder maxAttempts (int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("maxAttempts must be positive");
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to 100 milliseconds, doubled after each failed attempt.
+         *
+         * @param backoff base pause before repeating a call after a server or I/O error
+         * @param unit    backoff's time unit
+         *
+         * @return {@link Builder} which builds retry policy
+         */
+        public Builder initialBackoff (long backoff, TimeUnit unit) {
+            initialBackoff = unit.toMillis(backoff);
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to 10 seconds.
+         *
+         * @param backoff maximum pause before repeating a call after a server or I/O error
+         * @param unit    backoff's time unit
+         *
+         * @return {@link Builder} which builds retry policy
+         */
+        public Builder maxBackoff (long backoff, TimeUnit unit) {
+            maxBackoff = unit.toMillis(backoff);
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to 1 minute.
+         *
+         * @param retryAfter maximum pause requested by flood control, which the policy is ready to wait. If the
+         *                   server asks for a longer pause, the error is thrown immediately.
+         * @param unit       retryAfter's time unit
+         *
+         * @return {@link Builder} which builds retry policy
+         */
+        public Builder maxRetryAfter (long retryAfter, TimeUnit unit) {
+            maxRetryAfter = unit.toMillis(retryAfter);
+            return this;
+        }
+
+        /**
+         * @return a new {@link RetryPolicy} instance
+         */
+        public RetryPolicy build () {
+            return new RetryPolicy(this);
+        }
+    }
+}
@@ -23,6 +23,9 @@
  */
 package ru.xxlabaza.telegram.api;
 
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
 /**
  * A request builder for telling the user that something is happening on the bot's side.
  *
@@ -38,8 +41,8 @@ public final class SendChatActionRequestBuilder extends AbstractRequestBuilder<O
 
     private String action;
 
-    SendChatActionRequestBuilder (TelegramApi api) {
-        super(api);
+    SendChatActionRequestBuilder (TelegramApi api, Executor executor) {
+        super(api, executor);
     }
 
     /**
@@ -71,7 +74,12 @@ public final class SendChatActionRequestBuilder extends AbstractRequestBuilder<O
     }
 
     @Override
-    protected Response<Object> getResponse () {
+    protected String chat () {
+        return chat;
+    }
+
+    @Override
+    protected Supplier<Response<Object>> prepare () {
         if (chat == null) {
             throw new IllegalArgumentException("chat value is required");
         }
@@ -79,6 +87,7 @@ public final class SendChatActionRequestBuilder extends AbstractRequestBuilder<O
             throw new IllegalArgumentException("action value is required");
         }
 
-        return api.sendChatAction(chat, action);
+        SendChatActionParameters parameters = new SendChatActionParameters(chat, action);
+        return () -> api.sendChatAction(parameters);
     }
 }
@@ -0,0 +1,73 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.math.BigDecimal;
+import lombok.Value;
+
+/**
+ * Parameters of sendLocation method, sent as a JSON request body.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 2:06:54 PM
+ *
+ * @version 1.0.0
+ */
+@Value
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@SuppressWarnings("PMD.UnusedPrivateField")
+class SendLocationParameters {
+
+    /**
+     * Unique identifier for the target chat or username of the target channel (in the format @channelusername)
+     */
+    @JsonProperty("chat_id")
+    private String chat;
+
+    /**
+     * Latitude of location
+     */
+    private BigDecimal latitude;
+
+    /**
+     * Longitude of location
+     */
+    private BigDecimal longitude;
+
+    /**
+     * Optional. If the message is a reply, ID of the original message
+     */
+    @JsonProperty("reply_to_message_id")
+    private Integer replyTo;
+
+    /**
+     * Optional. Additional interface options. A JSON-serialized object for a custom reply keyboard,
+     * instructions to hide keyboard or to force a reply from the user
+     */
+    @JsonProperty("reply_markup")
+    private Object reply;
+}
@@ -24,6 +24,8 @@
 package ru.xxlabaza.telegram.api;
 
 import java.math.BigDecimal;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import ru.xxlabaza.telegram.api.type.ForceReply;
 import ru.xxlabaza.telegram.api.type.Message;
 import ru.xxlabaza.telegram.api.type.ReplyKeyboardHide;
@@ -48,8 +50,8 @@ public final class SendLocationRequestBuilder extends AbstractReplyRequestBuilde
 
     private BigDecimal longitude;
 
-    SendLocationRequestBuilder (TelegramApi api) {
-        super(api);
+    SendLocationRequestBuilder (TelegramApi api, Executor executor) {
+        super(api, executor);
     }
 
     /**
@@ -209,6 +211,12 @@ public final class SendLocationRequestBuilder extends AbstractReplyRequestBuilde
         return this;
     }
 
+    @Override
+    public SendLocationRequestBuilder replyMarkup (ReplyMarkup replyMarkup) {
+        super.replyMarkup(replyMarkup);
+        return this;
+    }
+
     @Override
     public SendLocationRequestBuilder forceReply (ForceReply forceReply) {
         super.forceReply(forceReply);
@@ -234,7 +242,12 @@ public final class SendLocationRequestBuilder extends AbstractReplyRequestBuilde
     }
 
     @Override
-    protected Response<Message> getResponse () {
+    protected String chat () {
+        return chat;
+    }
+
+    @Override
+    protected Supplier<Response<Message>> prepare () {
         if (chat == null) {
             throw new IllegalArgumentException("chat value is required");
         }
@@ -245,12 +258,7 @@ public final class SendLocationRequestBuilder extends AbstractReplyRequestBuilde
             throw new IllegalArgumentException("longitude value is required");
         }
 
-        if (replyKeyboardMarkup != null) {
-            return api.sendLocation(chat, latitude, longitude, replyTo, replyKeyboardMarkup);
-        } else if (replyKeyboardHide != null) {
-            return api.sendLocation(chat, latitude, longitude, replyTo, replyKeyboardHide);
-        } else {
-            return api.sendLocation(chat, latitude, longitude, replyTo, forceReply);
-        }
+        SendLocationParameters parameters = new SendLocationParameters(chat, latitude, longitude, replyTo, reply());
+        return () -> api.sendLocation(parameters);
     }
 }
@@ -23,6 +23,8 @@
  */
 package ru.xxlabaza.telegram.api;
 
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import ru.xxlabaza.telegram.api.type.ForceReply;
 import ru.xxlabaza.telegram.api.type.Message;
 import ru.xxlabaza.telegram.api.type.ReplyKeyboardHide;
@@ -49,8 +51,8 @@ public final class SendMessageRequestBuilder extends AbstractReplyRequestBuilder
 
     private boolean disablePreview;
 
-    SendMessageRequestBuilder (TelegramApi api) {
-        super(api);
+    SendMessageRequestBuilder (TelegramApi api, Executor executor) {
+        super(api, executor);
         disablePreview = false;
     }
 
@@ -101,6 +103,13 @@ public final class SendMessageRequestBuilder extends AbstractReplyRequestBuilder
         return this;
     }
 
+    @Override
+    public SendMessageRequestBuilder replyMarkup (ReplyMarkup replyMarkup
+    ) throws IllegalArgumentException {
+        super.replyMarkup(replyMarkup);
+        return this;
+    }
+
     @Override
     public SendMessageRequestBuilder forceReply (ForceReply forceReply
     ) throws IllegalArgumentException {
@@ -129,7 +138,12 @@ public final class SendMessageRequestBuilder extends AbstractReplyRequestBuilder
     }
 
     @Override
-    protected Response<Message> getResponse () {
+    protected String chat () {
+        return chat;
+    }
+
+    @Override
+    protected Supplier<Response<Message>> prepare () {
         if (chat == null) {
             throw new IllegalArgumentException("chat value is required");
         }
@@ -137,12 +151,8 @@ public final class SendMessageRequestBuilder extends AbstractReplyRequestBuilder
             throw new IllegalArgumentException("text value is required");
         }
 
-        if (replyKeyboardMarkup != null) {
-            return api.sendMessage(chat, text, mode, disablePreview, replyTo, replyKeyboardMarkup);
-        } else if (replyKeyboardHide != null) {
-            return api.sendMessage(chat, text, mode, disablePreview, replyTo, replyKeyboardHide);
-        } else {
-            return api.sendMessage(chat, text, mode, disablePreview, replyTo, forceReply);
-        }
+        SendMessageParameters parameters = new SendMessageParameters(chat, text, mode, disablePreview, replyTo,
+                                                                      reply());
+        return () -> api.sendMessage(parameters);
     }
 }
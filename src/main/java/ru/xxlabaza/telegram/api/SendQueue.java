@@ -0,0 +1,438 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import ru.xxlabaza.telegram.api.type.Message;
+
+/**
+ * An outbound queue of calls with two priorities, where interactive replies go ahead of bulk notifications, and
+ * repeated chat actions are coalesced.
+ * <p>
+ * A fixed set of worker threads takes calls from the queue, always preferring interactive ones, so user-facing latency
+ * stays low while bulk jobs are running. A chat action is shown by Telegram for 5 seconds or until a message is sent to
+ * the chat, so the same action for the same chat within that window shares the pending or already sent call, instead
+ * of making a new one. A message sent through the queue resets the chat's action; chat actions and messages are
+ * matched by the chat exactly as it is passed to them, so a channel's action is reset by a message to the same
+ * <b>@channelusername</b>.
+ * <pre>
+ * SendQueue queue = SendQueue.builder(service).build();
+ * queue.chatAction(chat, "typing");
+ * queue.reply(service.sendMessage().chat(chat).text("Hello"));
+ * queue.bulk(service.sendMessage().chat(subscriber).text("News"));
+ * </pre>
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 11:31:07 PM
+ *
+ * @version 1.0.0
+ */
+public final class SendQueue implements Closeable {
+
+    private static final int PRUNE_EVERY = 1024;
+
+    private final TelegramService service;
+
+    private final long coalesceWindow;
+
+    private final ReentrantLock lock;
+
+    private final Condition notEmpty;
+
+    private final ArrayDeque<Task<?>> interactive;
+
+    private final ArrayDeque<Task<?>> bulk;
+
+    private final ConcurrentMap<String, ChatAction> chatActions;
+
+    private final AtomicInteger chatActionCalls;
+
+    private final AtomicLong coalesced;
+
+    private final Thread[] workers;
+
+    private boolean closed;
+
+    private SendQueue (Builder builder) {
+        service = builder.service;
+        coalesceWindow = builder.coalesceWindow;
+        lock = new ReentrantLock();
+        notEmpty = lock.newCondition();
+        interactive = new ArrayDeque<>();
+        bulk = new ArrayDeque<>();
+        chatActions = new ConcurrentHashMap<>();
+        chatActionCalls = new AtomicInteger();
+        coalesced = new AtomicLong();
+        workers = new Thread[builder.workers];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = new Thread(this::work, "telegram-send-queue-" + (i + 1));
+            workers[i].setDaemon(true);
+            workers[i].start();
+        }
+    }
+
+    /**
+     * @param service a service to make chat action calls with
+     *
+     * @return {@link Builder} which builds queue
+     */
+    public static Builder builder (TelegramService service) {
+        return new Builder(service);
+    }
+
+    /**
+     * Queues an interactive message, which goes ahead of all bulk calls. The request's values are captured before this
+     * method returns, so the request can be modified or reused right away.
+     *
+     * @param request a prepared request
+     *
+     * @return a future, which completes with the sent message, or exceptionally with the call's error.
+     *
+     * @exception IllegalStateException if the queue is closed.
+     */
+    public CompletableFuture<Message> reply (SendMessageRequestBuilder request) {
+        return send(Priority.INTERACTIVE, request);
+    }
+
+    /**
+     * Queues a bulk message, which is sent when there are no interactive calls. The request's values are captured
+     * before this method returns, so the request can be modified or reused right away.
+     *
+     * @param request a prepared request
+     *
+     * @return a future, which completes with the sent message, or exceptionally with the call's error.
+     *
+     * @exception IllegalStateException if the queue is closed.
+     */
+    public CompletableFuture<Message> bulk (SendMessageRequestBuilder request) {
+        return send(Priority.BULK, request);
+    }
+
+    /**
+     * Queues an interactive chat action, unless the same action for the chat is already queued or was sent within the
+     * coalescing window.
+     *
+     * @param chat   unique identifier for the target chat or username of the target channel
+     * @param action type of action to broadcast, like typing or upload_photo
+     *
+     * @return a future of the call, which is shared by all coalesced chat actions.
+     *
+     * @exception IllegalStateException if the queue is closed.
+     */
+    public CompletableFuture<Object> chatAction (String chat, String action) {
+        if (chat == null) {
+            throw new IllegalArgumentException("chat value is required");
+        }
+        if (action == null) {
+            throw new IllegalArgumentException("action value is required");
+        }
+        long now = System.nanoTime();
+        if (chatActionCalls.incrementAndGet() % PRUNE_EVERY == 0) {
+            chatActions.values().removeIf(chatAction -> now - chatAction.queuedAt >= coalesceWindow);
+        }
+
+        ChatAction created = new ChatAction(action, now);
+        ChatAction current = chatActions.merge(chat, created, this::coalesce);
+        if (current != created) {
+            coalesced.incrementAndGet();
+            return current.future;
+        }
+        // a failed chat action must not suppress the next ones
+        created.future.whenComplete((result, ex) -> {
+            if (ex != null) {
+                chatActions.remove(chat, created);
+            }
+        });
+        SendChatActionRequestBuilder request = service.sendChatAction().chat(chat).action(action);
+        try {
+            enqueue(Priority.INTERACTIVE, new Task<>(request::call, null, created.future));
+        } catch (IllegalStateException ex) {
+            // removes the entry, and fails the callers, which have coalesced with it meanwhile
+            created.future.completeExceptionally(ex);
+            throw ex;
+        }
+        return created.future;
+    }
+
+    /**
+     * Queues an arbitrary call.
+     *
+     * @param <T>      type of the call's result
+     * @param priority the call's priority
+     * @param call     the call, like a prepared request's <b>call</b> method
+     *
+     * @return a future, which completes with the call's result, or exceptionally with the call's error.
+     *
+     * @exception IllegalStateException if the queue is closed.
+     */
+    public <T> CompletableFuture<T> submit (Priority priority, Supplier<T> call) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        enqueue(priority, new Task<>(call, null, future));
+        return future;
+    }
+
+    /**
+     * @return the number of chat actions, which were coalesced with another one instead of being called
+     */
+    public long getCoalesced () {
+        return coalesced.get();
+    }
+
+    /**
+     * Stops accepting new calls. Already queued calls are still made.
+     */
+    @Override
+    public void close () {
+        lock.lock();
+        try {
+            closed = true;
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until all queued calls are made, after {@link #close()}.
+     *
+     * @param timeout maximum time to wait
+     * @param unit    timeout's time unit
+     *
+     * @return true if all workers are stopped, false if the timeout elapsed
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitTermination (long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (Thread worker : workers) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining > 0) {
+                TimeUnit.NANOSECONDS.timedJoin(worker, remaining);
+            }
+            if (worker.isAlive()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private CompletableFuture<Message> send (Priority priority, SendMessageRequestBuilder request) {
+        CompletableFuture<Message> future = new CompletableFuture<>();
+        Supplier<Response<Message>> prepared;
+        String chat;
+        try {
+            prepared = request.prepare();
+            chat = request.chat();
+        } catch (RuntimeException ex) {
+            future.completeExceptionally(ex);
+            return future;
+        }
+        enqueue(priority, new Task<>(() -> request.call(prepared, chat), chat, future));
+        return future;
+    }
+
+    private void enqueue (Priority priority, Task<?> task) {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("queue is closed");
+            }
+            (priority == Priority.INTERACTIVE
+             ? interactive
+             : bulk).addLast(task);
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void work () {
+        while (true) {
+            Task<?> task;
+            lock.lock();
+            try {
+                while ((task = next()) == null) {
+                    if (closed) {
+                        return;
+                    }
+                    notEmpty.await();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+            task.run();
+        }
+    }
+
+    private ChatAction coalesce (ChatAction previous, ChatAction next) {
+        return previous.action.equals(next.action) && next.queuedAt - previous.queuedAt < coalesceWindow
+               ? previous
+               : next;
+    }
+
+    private Task<?> next () {
+        Task<?> task = interactive.pollFirst();
+        return task != null
+               ? task
+               : bulk.pollFirst();
+    }
+
+    /**
+     * A call's priority.
+     */
+    public enum Priority {
+
+        /**
+         * User-facing calls, like replies, which are made first.
+         */
+        INTERACTIVE,
+
+        /**
+         * Background calls, like notifications, which are made when there are no interactive ones.
+         */
+        BULK
+    }
+
+    private final class Task<T> implements Runnable {
+
+        private final Supplier<T> call;
+
+        private final String chat;
+
+        private final CompletableFuture<T> future;
+
+        Task (Supplier<T> call, String chat, CompletableFuture<T> future) {
+            this.call = call;
+            this.chat = chat;
+            this.future = future;
+        }
+
+        @Override
+        public void run () {
+            T result;
+            try {
+                result = call.get();
+            } catch (RuntimeException ex) {
+                future.completeExceptionally(ex);
+                return;
+            }
+            // a sent message hides the chat's action
+            if (chat != null) {
+                chatActions.remove(chat);
+            } else if (result instanceof Message) {
+                // a submitted call's chat is known from its message only, by the numeric identifier
+                Message message = (Message) result;
+                if (message.getChat() != null && message.getChat().getId() != null) {
+                    chatActions.remove(message.getChat().getId().toString());
+                }
+            }
+            future.complete(result);
+        }
+    }
+
+    private static final class ChatAction {
+
+        private final String action;
+
+        private final long queuedAt;
+
+        private final CompletableFuture<Object> future;
+
+        ChatAction (String action, long queuedAt) {
+            this.action = action;
+            this.queuedAt = queuedAt;
+            future = new CompletableFuture<>();
+        }
+    }
+
+    /**
+     * A builder of {@link SendQueue} with its workers and coalescing settings.
+     */
+    public static final class Builder {
+
+        private final TelegramService service;
+
+        private int workers;
+
+        private long coalesceWindow;
+
+        private Builder (TelegramService service) {
+            if (service == null) {
+                throw new IllegalArgumentException("service value is required");
+            }
+            this.service = service;
+            workers = 4;
+            coalesceWindow = TimeUnit.SECONDS.toNanos(5);
+        }
+
+        /**
+         * Optional value. Defaults to 4.
+         *
+         * @param workers number of threads, which make calls concurrently
+         *
+         * @return {@link Builder} which builds queue
+         */
+        public Builder workers (int workers) {
+            if (workers <= 0) {
+                throw new IllegalArgumentException("workers must be positive");
+            }
+            this.workers = workers;
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to 5 seconds, the time Telegram shows a chat action for.
+         *
+         * @param window time, within which the same chat action for the same chat is made only once
+         * @param unit   window's time unit
+         *
+         * @return {@link Builder} which builds queue
+         */
+        public Builder coalesceWindow (long window, TimeUnit unit) {
+            coalesceWindow = unit.toNanos(window);
+            return this;
+        }
+
+        /**
+         * @return a new {@link SendQueue} instance
+         */
+        public SendQueue build () {
+            return new SendQueue(this);
+        }
+    }
+}
@@ -23,6 +23,8 @@
  */
 package ru.xxlabaza.telegram.api;
 
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import ru.xxlabaza.telegram.api.type.ForceReply;
 import ru.xxlabaza.telegram.api.type.Message;
 import ru.xxlabaza.telegram.api.type.ReplyKeyboardHide;
@@ -45,8 +47,8 @@ public final class SendStickerRequestBuilder extends AbstractReplyRequestBuilder
 
     private String sticker;
 
-    SendStickerRequestBuilder (TelegramApi api) {
-        super(api);
+    SendStickerRequestBuilder (TelegramApi api, Executor executor) {
+        super(api, executor);
     }
 
     /**
@@ -75,6 +77,12 @@ public final class SendStickerRequestBuilder extends AbstractReplyRequestBuilder
         return this;
     }
 
+    @Override
+    public SendStickerRequestBuilder replyMarkup (ReplyMarkup replyMarkup) {
+        super.replyMarkup(replyMarkup);
+        return this;
+    }
+
     @Override
     public SendStickerRequestBuilder forceReply (ForceReply forceReply) {
         super.forceReply(forceReply);
@@ -100,7 +108,12 @@ public final class SendStickerRequestBuilder extends AbstractReplyRequestBuilder
     }
 
     @Override
-    protected Response<Message> getResponse () {
+    protected String chat () {
+        return chat;
+    }
+
+    @Override
+    protected Supplier<Response<Message>> prepare () {
         if (chat == null) {
             throw new IllegalArgumentException("chat value is required");
         }
@@ -108,12 +121,7 @@ public final class SendStickerRequestBuilder extends AbstractReplyRequestBuilder
             throw new IllegalArgumentException("sticker value is required");
         }
 
-        if (replyKeyboardMarkup != null) {
-            return api.sendSticker(chat, sticker, replyTo, replyKeyboardMarkup);
-        } else if (replyKeyboardHide != null) {
-            return api.sendSticker(chat, sticker, replyTo, replyKeyboardHide);
-        } else {
-            return api.sendSticker(chat, sticker, replyTo, forceReply);
-        }
+        SendStickerParameters parameters = new SendStickerParameters(chat, sticker, replyTo, reply());
+        return () -> api.sendSticker(parameters);
     }
 }
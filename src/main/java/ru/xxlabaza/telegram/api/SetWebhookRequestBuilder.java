@@ -23,6 +23,9 @@
  */
 package ru.xxlabaza.telegram.api;
 
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
 /**
  * A request builder for specifying an url and receive incoming updates via an outgoing webhook.
  *
@@ -36,8 +39,8 @@ public final class SetWebhookRequestBuilder extends AbstractRequestBuilder<Objec
 
     private String url;
 
-    SetWebhookRequestBuilder (TelegramApi api) {
-        super(api);
+    SetWebhookRequestBuilder (TelegramApi api, Executor executor) {
+        super(api, executor);
     }
 
     /**
@@ -53,7 +56,8 @@ public final class SetWebhookRequestBuilder extends AbstractRequestBuilder<Objec
     }
 
     @Override
-    protected Response<Object> getResponse () {
-        return api.setWebhook(url);
+    protected Supplier<Response<Object>> prepare () {
+        SetWebhookParameters parameters = new SetWebhookParameters(url);
+        return () -> api.setWebhook(parameters);
     }
 }
@@ -0,0 +1,81 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api;
+
+import feign.Headers;
+import feign.Param;
+import feign.RequestLine;
+import java.util.List;
+import ru.xxlabaza.telegram.api.type.Message;
+import ru.xxlabaza.telegram.api.type.Update;
+import ru.xxlabaza.telegram.api.type.User;
+
+/**
+ * Telegram Bot API methods of any bot, shared by all bots of a {@link TelegramRuntime}. The bot's token is a per-call
+ * parameter, which {@link TokenTarget} moves from the {@value TokenTarget#TOKEN_HEADER} header into the URL.
+ * <p>
+ * See {@link TelegramApi} for descriptions of the methods.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 9:20:05 PM
+ *
+ * @version 1.0.0
+ */
+@Headers({
+    "Content-Type: application/json",
+    TokenTarget.TOKEN_HEADER + ": {token}"
+})
+interface SharedTelegramApi {
+
+    @RequestLine("GET /getMe")
+    Response<User> getMe (@Param("token") String token);
+
+    @RequestLine("POST /sendMessage")
+    Response<Message> sendMessage (@Param("token") String token, SendMessageParameters parameters);
+
+    @RequestLine("POST /sendMessage")
+    Response<Message> sendMessage (@Param("token") String token, TemplateMessageParameters parameters);
+
+    @RequestLine("POST /forwardMessage")
+    Response<Message> forwardMessage (@Param("token") String token, ForwardMessageParameters parameters);
+
+    @RequestLine("POST /sendSticker")
+    Response<Message> sendSticker (@Param("token") String token, SendStickerParameters parameters);
+
+    @RequestLine("POST /sendLocation")
+    Response<Message> sendLocation (@Param("token") String token, SendLocationParameters parameters);
+
+    @RequestLine("POST /sendChatAction")
+    Response<Object> sendChatAction (@Param("token") String token, SendChatActionParameters parameters);
+
+    @RequestLine("POST /getUpdates")
+    Response<List<Update>> getUpdates (@Param("token") String token, GetUpdatesParameters parameters);
+
+    @RequestLine("POST /getUpdates")
+    Response<Integer> streamUpdates (@Param("token") String token, GetUpdatesParameters parameters);
+
+    @RequestLine("POST /setWebhook")
+    Response<Object> setWebhook (@Param("token") String token, SetWebhookParameters parameters);
+}
@@ -23,18 +23,16 @@
  */
 package ru.xxlabaza.telegram.api;
 
-import feign.Param;
-import feign.RequestLine;
-import java.math.BigDecimal;
 import java.util.List;
-import ru.xxlabaza.telegram.api.type.ForceReply;
 import ru.xxlabaza.telegram.api.type.Message;
-import ru.xxlabaza.telegram.api.type.ReplyKeyboardHide;
-import ru.xxlabaza.telegram.api.type.ReplyKeyboardMarkup;
 import ru.xxlabaza.telegram.api.type.Update;
 import ru.xxlabaza.telegram.api.type.User;
 
 /**
+ * Telegram Bot API methods of a single bot. Parameters are sent as a JSON request body, so long texts and reply
+ * markups are neither percent-encoded nor limited by the request line length.
+ * <p>
+ * Calls go through {@link SharedTelegramApi} of the bot's {@link TelegramRuntime}, possibly decorated.
  *
  * @author Artem Labazin
  *
@@ -49,248 +47,52 @@ interface TelegramApi {
      *
      * @return Returns basic information about the bot in form of a {@link User} object.
      */
-    @RequestLine("GET /getMe")
     Response<User> getMe ();
 
     /**
      * Use this method to send text messages.
      *
-     * @param chat           Unique identifier for the target chat or username of the target channel
-     *                       (in the format @channelusername)
-     * @param text           Text of the message to be sent
-     * @param mode           Send Markdown, if you want Telegram apps to show bold, italic and inline URLs in your
-     *                       bot's message
-     * @param disablePreview Disables link previews for links in this message
-     * @param replyTo        If the message is a reply, ID of the original message
-     * @param reply          Additional interface options. A JSON-serialized object for a custom reply keyboard
+     * @param parameters chat, text and optional formatting, reply and keyboard options of the message
      *
      * @return On success, the sent {@link Message} is returned.
      */
-    @RequestLine("POST /sendMessage?" +
-                 "chat_id={chat}&" +
-                 "text={text}&" +
-                 "parse_mode={mode}&" +
-                 "disable_web_page_preview={disablePreview}&" +
-                 "reply_to_message_id={replyTo}&" +
-                 "reply_markup={reply}")
-    Response<Message> sendMessage (@Param("chat") String chat,
-                                   @Param("text") String text,
-                                   @Param("mode") String mode,
-                                   @Param("disablePreview") boolean disablePreview,
-                                   @Param("replyTo") Integer replyTo,
-                                   @Param("reply") ReplyKeyboardMarkup reply);
+    Response<Message> sendMessage (SendMessageParameters parameters);
 
     /**
-     * Use this method to send text messages.
-     *
-     * @param chat           Unique identifier for the target chat or username of the target channel
-     *                       (in the format @channelusername)
-     * @param text           Text of the message to be sent
-     * @param mode           Send Markdown, if you want Telegram apps to show bold, italic and inline URLs in your
-     *                       bot's message
-     * @param disablePreview Disables link previews for links in this message
-     * @param replyTo        If the message is a reply, ID of the original message
-     * @param reply          Additional interface options. A JSON-serialized object for a instructions to hide
-     *                       keyboard
-     *
-     * @return On success, the sent {@link Message} is returned.
-     */
-    @RequestLine("POST /sendMessage?" +
-                 "chat_id={chat}&" +
-                 "text={text}&" +
-                 "parse_mode={mode}&" +
-                 "disable_web_page_preview={disablePreview}&" +
-                 "reply_to_message_id={replyTo}&" +
-                 "reply_markup={reply}")
-    Response<Message> sendMessage (@Param("chat") String chat,
-                                   @Param("text") String text,
-                                   @Param("mode") String mode,
-                                   @Param("disablePreview") boolean disablePreview,
-                                   @Param("replyTo") Integer replyTo,
-                                   @Param("reply") ReplyKeyboardHide reply);
-
-    /**
-     * Use this method to send text messages.
+     * Use this method to send a text message, which is shared by many recipients.
      *
-     * @param chat           Unique identifier for the target chat or username of the target channel
-     *                       (in the format @channelusername)
-     * @param text           Text of the message to be sent
-     * @param mode           Send Markdown, if you want Telegram apps to show bold, italic and inline URLs in your
-     *                       bot's message
-     * @param disablePreview Disables link previews for links in this message
-     * @param replyTo        If the message is a reply, ID of the original message
-     * @param reply          Additional interface options. A JSON-serialized object to force a reply from the user
+     * @param parameters chat and pre-serialized text, formatting, reply and keyboard options of the message
      *
      * @return On success, the sent {@link Message} is returned.
      */
-    @RequestLine("POST /sendMessage?" +
-                 "chat_id={chat}&" +
-                 "text={text}&" +
-                 "parse_mode={mode}&" +
-                 "disable_web_page_preview={disablePreview}&" +
-                 "reply_to_message_id={replyTo}&" +
-                 "reply_markup={reply}")
-    Response<Message> sendMessage (@Param("chat") String chat,
-                                   @Param("text") String text,
-                                   @Param("mode") String mode,
-                                   @Param("disablePreview") boolean disablePreview,
-                                   @Param("replyTo") Integer replyTo,
-                                   @Param("reply") ForceReply reply);
+    Response<Message> sendMessage (TemplateMessageParameters parameters);
 
     /**
      * Use this method to forward messages of any kind.
      *
-     * @param chat     Unique identifier for the target chat or username of the target channel
-     *                 (in the format @channelusername)
-     * @param fromChat Unique identifier for the chat where the original message was sent
-     *                 (or channel username in the format @channelusername)
-     * @param message  Unique message identifier
-     *
-     * @return On success, the sent {@link Message} is returned.
-     */
-    @RequestLine("POST /forwardMessage?" +
-                 "chat_id={chat}&" +
-                 "from_chat_id={fromChat}&" +
-                 "message_id={message}")
-    Response<Message> forwardMessage (@Param("chat") String chat,
-                                      @Param("fromChat") String fromChat,
-                                      @Param("message") Integer message);
-
-    /**
-     * Use this method to send .webp stickers.
-     *
-     * @param chat    Unique identifier for the target chat or username of the target channel
-     *                (in the format @channelusername)
-     * @param sticker Sticker to send. You can pass a file_id as String to resend a sticker that is already on
-     *                the Telegram servers.
-     * @param replyTo If the message is a reply, ID of the original message
-     * @param reply   Additional interface options. A JSON-serialized object for a custom reply keyboard
-     *
-     * @return On success, the sent {@link Message} is returned.
-     */
-    @RequestLine("POST /sendSticker?" +
-                 "chat_id={chat}&" +
-                 "sticker={sticker}&" +
-                 "reply_to_message_id={replyTo}&" +
-                 "reply_markup={reply}")
-    Response<Message> sendSticker (@Param("chat") String chat,
-                                   @Param("sticker") String sticker,
-                                   @Param("replyTo") Integer replyTo,
-                                   @Param("reply") ReplyKeyboardMarkup reply);
-
-    /**
-     * Use this method to send .webp stickers.
-     *
-     * @param chat    Unique identifier for the target chat or username of the target channel
-     *                (in the format @channelusername)
-     * @param sticker Sticker to send. You can pass a file_id as String to resend a sticker that is already on
-     *                the Telegram servers.
-     * @param replyTo If the message is a reply, ID of the original message
-     * @param reply   Additional interface options. A JSON-serialized object for a instructions to hide keyboard
+     * @param parameters target chat, source chat and identifier of the message to forward
      *
      * @return On success, the sent {@link Message} is returned.
      */
-    @RequestLine("POST /sendSticker?" +
-                 "chat_id={chat}&" +
-                 "sticker={sticker}&" +
-                 "reply_to_message_id={replyTo}&" +
-                 "reply_markup={reply}")
-    Response<Message> sendSticker (@Param("chat") String chat,
-                                   @Param("sticker") String sticker,
-                                   @Param("replyTo") Integer replyTo,
-                                   @Param("reply") ReplyKeyboardHide reply);
+    Response<Message> forwardMessage (ForwardMessageParameters parameters);
 
     /**
      * Use this method to send .webp stickers.
      *
-     * @param chat    Unique identifier for the target chat or username of the target channel
-     *                (in the format @channelusername)
-     * @param sticker Sticker to send. You can pass a file_id as String to resend a sticker that is already on
-     *                the Telegram servers.
-     * @param replyTo If the message is a reply, ID of the original message
-     * @param reply   Additional interface options. A JSON-serialized object to force a reply from the user
-     *
-     * @return On success, the sent {@link Message} is returned.
-     */
-    @RequestLine("POST /sendSticker?" +
-                 "chat_id={chat}&" +
-                 "sticker={sticker}&" +
-                 "reply_to_message_id={replyTo}&" +
-                 "reply_markup={reply}")
-    Response<Message> sendSticker (@Param("chat") String chat,
-                                   @Param("sticker") String sticker,
-                                   @Param("replyTo") Integer replyTo,
-                                   @Param("reply") ForceReply reply);
-
-    /**
-     * *
-     * Use this method to send point on the map.
-     *
-     * @param chat      Unique identifier for the message recipient — User or GroupChat id
-     * @param latitude  Latitude of location
-     * @param longitude Longitude of location
-     * @param replyTo   If the message is a reply, ID of the original message
-     * @param reply     Additional interface options. A JSON-serialized object for a custom reply keyboard
-     *
-     * @return On success, the sent {@link Message} is returned.
-     */
-    @RequestLine("POST /sendLocation?" +
-                 "chat_id={chat}&" +
-                 "latitude={latitude}&" +
-                 "longitude={longitude}&" +
-                 "reply_to_message_id={replyTo}&" +
-                 "reply_markup={reply}")
-    Response<Message> sendLocation (@Param("chat") String chat,
-                                    @Param("latitude") BigDecimal latitude,
-                                    @Param("longitude") BigDecimal longitude,
-                                    @Param("replyTo") Integer replyTo,
-                                    @Param("reply") ReplyKeyboardMarkup reply);
-
-    /**
-     * Use this method to send point on the map
-     *
-     * @param chat      Unique identifier for the message recipient — User or GroupChat id
-     * @param latitude  Latitude of location
-     * @param longitude Longitude of location
-     * @param replyTo   If the message is a reply, ID of the original message
-     * @param reply     Additional interface options. A JSON-serialized object for the instructions to hide keyboard
+     * @param parameters chat, sticker and optional reply and keyboard options of the message
      *
      * @return On success, the sent {@link Message} is returned.
      */
-    @RequestLine("POST /sendLocation?" +
-                 "chat_id={chat}&" +
-                 "latitude={latitude}&" +
-                 "longitude={longitude}&" +
-                 "reply_to_message_id={replyTo}&" +
-                 "reply_markup={reply}")
-    Response<Message> sendLocation (@Param("chat") String chat,
-                                    @Param("latitude") BigDecimal latitude,
-                                    @Param("longitude") BigDecimal longitude,
-                                    @Param("replyTo") Integer replyTo,
-                                    @Param("reply") ReplyKeyboardHide reply);
+    Response<Message> sendSticker (SendStickerParameters parameters);
 
     /**
      * Use this method to send point on the map.
      *
-     * @param chat      Unique identifier for the message recipient — User or GroupChat id
-     * @param latitude  Latitude of location
-     * @param longitude Longitude of location
-     * @param replyTo   If the message is a reply, ID of the original message
-     * @param reply     Additional interface options. A JSON-serialized object for to force a reply from the user.
+     * @param parameters chat, latitude, longitude and optional reply and keyboard options of the message
      *
      * @return On success, the sent {@link Message} is returned.
      */
-    @RequestLine("POST /sendLocation?" +
-                 "chat_id={chat}&" +
-                 "latitude={latitude}&" +
-                 "longitude={longitude}&" +
-                 "reply_to_message_id={replyTo}&" +
-                 "reply_markup={reply}")
-    Response<Message> sendLocation (@Param("chat") String chat,
-                                    @Param("latitude") BigDecimal latitude,
-                                    @Param("longitude") BigDecimal longitude,
-                                    @Param("replyTo") Integer replyTo,
-                                    @Param("reply") ForceReply reply);
+    Response<Message> sendLocation (SendLocationParameters parameters);
 
     /**
      * Use this method when you need to tell the user that something is happening on the bot's side. The status is set
@@ -302,18 +104,9 @@ interface TelegramApi {
      * <p>
      * We only recommend using this method when a response from the bot will take a noticeable amount of time to arrive.
      *
-     * @param chat   Unique identifier for the target chat or username of the target channel
-     *               (in the format @channelusername)
-     * @param action Type of action to broadcast. Choose one, depending on what the user is about to receive: typing
-     *               for text messages, upload_photo for photos, record_video or upload_video for videos, record_audio
-     *               or upload_audio for audio files, upload_document for general files, find_location for location
-     *               data.
+     * @param parameters chat and type of action to broadcast
      */
-    @RequestLine("POST /sendChatAction?" +
-                 "chat_id={chat}&" +
-                 "action={action}")
-    Response<Object> sendChatAction (@Param("chat") String chat,
-                                     @Param("action") String action);
+    Response<Object> sendChatAction (SendChatActionParameters parameters);
 
     /**
      * Use this method to receive incoming updates using long polling
@@ -323,23 +116,21 @@ interface TelegramApi {
      * <p>
      * In order to avoid getting duplicate updates, recalculate offset after each server response.
      *
-     * @param offset  Optional. Identifier of the first update to be returned. Must be greater by one than the highest
-     *                among the identifiers of previously received updates. By default, updates starting with the
-     *                earliest unconfirmed update are returned. An update is considered confirmed as soon as getUpdates
-     *                is called with an offset higher than its update_id.
-     * @param limit   Optional. Limits the number of updates to be retrieved. Values between 1—100 are accepted.
-     *                Defaults to 100.
-     * @param timeout Optional. Timeout in seconds for long polling. Defaults to 0, i.e. usual short polling.
+     * @param parameters optional offset, limit and long polling timeout
      *
      * @return An list of {@link Update} objects is returned.
      */
-    @RequestLine("GET /getUpdates?" +
-                 "offset={offset}&" +
-                 "limit={limit}&" +
-                 "timeout={timeout}")
-    Response<List<Update>> getUpdates (@Param("offset") Integer offset,
-                                       @Param("limit") Integer limit,
-                                       @Param("timeout") Integer timeout);
+    Response<List<Update>> getUpdates (GetUpdatesParameters parameters);
+
+    /**
+     * Use this method to receive incoming updates using long polling, passing them to a consumer bound by
+     * {@link UpdateStreamDecoder#stream} while the response is being read.
+     *
+     * @param parameters optional offset, limit and long polling timeout
+     *
+     * @return The number of received {@link Update} objects is returned.
+     */
+    Response<Integer> streamUpdates (GetUpdatesParameters parameters);
 
     /**
      * Use this method to specify a url and receive incoming updates via an outgoing webhook. Whenever there is an
@@ -355,9 +146,8 @@ interface TelegramApi {
      * 2. We currently do not support self-signed certificates.
      * 3. Ports currently supported for Webhooks: 443, 80, 88, 8443.
      *
-     * @param url Optional. HTTPS url to send updates to. Use an empty string to remove webhook integration
+     * @param parameters optional HTTPS url to send updates to
      */
-    @RequestLine("POST /setWebhook?url={url}")
-    Response<Object> setWebhook (@Param("url") String url);
+    Response<Object> setWebhook (SetWebhookParameters parameters);
 
 }
@@ -0,0 +1,328 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Client;
+import feign.Feign;
+import feign.Logger;
+import feign.Logger.Level;
+import feign.Request.Options;
+import feign.jackson.JacksonDecoder;
+import feign.jackson.JacksonEncoder;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import ru.xxlabaza.telegram.api.jfr.JfrEvents;
+import ru.xxlabaza.telegram.api.metrics.MetricsClient;
+import ru.xxlabaza.telegram.api.metrics.MetricsRegistry;
+
+/**
+ * A runtime shared by many bots: one HTTP transport with its connection pool, one mapper, one Feign client with its
+ * encoders and decoders, and one executor. The bot's token is a per-request attribute, so a bot's service costs a few
+ * objects only, and the number of bots per node is bounded by their traffic:
+ * <pre>
+ * TelegramRuntime runtime = TelegramRuntime.builder()
+ *         .client(PooledClient.builder().maxConnectionsPerRoute(200).build())
+ *         .retryPolicy(RetryPolicy.builder().build())
+ *         .build();
+ * TelegramService bot = runtime.service("&lt;bot-api-token&gt;");
+ * </pre>
+ * Telegram's flood limits are per bot, so each bot gets its own {@link RateLimiter}, if any.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 9:38:27 PM
+ *
+ * @version 1.0.0
+ */
+public final class TelegramRuntime {
+
+    // each asynchronous call occupies a thread for its round trip, the rest wait in the queue
+    private static final int DEFAULT_EXECUTOR_THREADS = 64;
+
+    private static final ThreadPoolExecutor DEFAULT_EXECUTOR;
+
+    static {
+        AtomicInteger threadNumber = new AtomicInteger();
+        DEFAULT_EXECUTOR = new ThreadPoolExecutor(
+                DEFAULT_EXECUTOR_THREADS, DEFAULT_EXECUTOR_THREADS,
+                60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "telegram-api-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+        DEFAULT_EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    private final SharedTelegramApi api;
+
+    private final Executor executor;
+
+    private TelegramRuntime (Builder builder) {
+        Client client = builder.metrics == null
+                        ? builder.client
+                        : new MetricsClient(builder.client, builder.metrics);
+        JacksonEncoder encoder = new JacksonEncoder(builder.mapper);
+        Feign.Builder feign = Feign.builder()
+                .client((request, options) -> {
+                    feign.Response response = client.execute(request, options);
+                    JfrEvents.responseReceived(request, response);
+                    return response;
+                })
+                .options(new Options(builder.connectTimeout, builder.readTimeout))
+                .encoder((object, bodyType, template) -> {
+                    encoder.encode(object, bodyType, template);
+                    JfrEvents.requestEncoded();
+                })
+                .decoder(new UpdateStreamDecoder(new JacksonDecoder(builder.mapper), builder.mapper))
+                .errorDecoder(new RemoteApiErrorDecoder(builder.mapper, builder.retryPolicy != null));
+        if (builder.retryPolicy != null) {
+            feign.retryer(builder.retryPolicy);
+        }
+        if (builder.logger != null) {
+            feign.logger(builder.logger).logLevel(builder.logLevel);
+        }
+        api = feign.target(new TokenTarget(builder.url));
+        executor = builder.virtualThreads
+                   ? VirtualThreads.newExecutor("telegram-api-")
+                   : builder.executor;
+    }
+
+    /**
+     * @return {@link Builder} which builds runtime
+     */
+    public static Builder builder () {
+        return new Builder();
+    }
+
+    /**
+     * @param token a unique bot's authentication token
+     *
+     * @return a service of the bot, which works on this runtime
+     *
+     * @exception IllegalArgumentException if <b>token</b> is null.
+     */
+    public TelegramService service (String token) {
+        return service(token, null);
+    }
+
+    /**
+     * @param token       a unique bot's authentication token
+     * @param rateLimiter a limiter, which paces the bot's sent messages according to Telegram's flood limits, or null
+     *
+     * @return a service of the bot, which works on this runtime
+     *
+     * @exception IllegalArgumentException if <b>token</b> is null.
+     */
+    public TelegramService service (String token, RateLimiter rateLimiter) {
+        return new TelegramService(this, token, rateLimiter);
+    }
+
+    SharedTelegramApi getApi () {
+        return api;
+    }
+
+    Executor getExecutor () {
+        return executor;
+    }
+
+    /**
+     * A builder of {@link TelegramRuntime} with transport and execution settings.
+     */
+    public static final class Builder {
+
+        private String url;
+
+        private Client client;
+
+        private ObjectMapper mapper;
+
+        private int connectTimeout;
+
+        private int readTimeout;
+
+        private Executor executor;
+
+        private boolean virtualThreads;
+
+        private Logger logger;
+
+        private Level logLevel;
+
+        private RetryPolicy retryPolicy;
+
+        private MetricsRegistry metrics;
+
+        private Builder () {
+            url = TelegramService.getURL();
+            client = new Client.Default(null, null);
+            mapper = ObjectMappers.shared();
+            connectTimeout = (int) TimeUnit.SECONDS.toMillis(10);
+            readTimeout = (int) TimeUnit.SECONDS.toMillis(60);
+            executor = DEFAULT_EXECUTOR;
+        }
+
+        /**
+         * Optional value. Defaults to <b>https://api.telegram.org/bot</b>.
+         *
+         * @param url a base URL of Bot API, the token is appended to it. Useful for a local Bot API server or a stub
+         *
+         * @return {@link Builder} which builds runtime
+         */
+        public Builder url (String url) {
+            this.url = url;
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to Feign's {@link Client.Default}, which is backed by
+         * {@link java.net.HttpURLConnection}.
+         *
+         * @param client an HTTP transport for sending requests, for example {@link PooledClient}
+         *
+         * @return {@link Builder} which builds runtime
+         */
+        public Builder client (Client client) {
+            this.client = client;
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to {@link ObjectMappers#shared()}, which is shared by all runtimes.
+         *
+         * @param mapper a mapper for request and response bodies, usually created with {@link ObjectMappers#create()}
+         *
+         * @return {@link Builder} which builds runtime
+         */
+        public Builder mapper (ObjectMapper mapper) {
+            this.mapper = mapper;
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to 10 seconds.
+         *
+         * @param timeout connection establishment timeout
+         * @param unit    timeout's time unit
+         *
+         * @return {@link Builder} which builds runtime
+         */
+        public Builder connectTimeout (long timeout, TimeUnit unit) {
+            connectTimeout = (int) unit.toMillis(timeout);
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to 60 seconds. Must be greater than the long polling timeout of getUpdates calls.
+         *
+         * @param timeout socket read timeout
+         * @param unit    timeout's time unit
+         *
+         * @return {@link Builder} which builds runtime
+         */
+        public Builder readTimeout (long timeout, TimeUnit unit) {
+            readTimeout = (int) unit.toMillis(timeout);
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to a shared pool of 64 daemon threads, which runs up to 64 calls at a time and
+         * queues the rest. Bots with more concurrent calls take an executor of their own, or virtual threads.
+         *
+         * @param executor an executor for asynchronous calls
+         *
+         * @return {@link Builder} which builds runtime
+         */
+        public Builder executor (Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Optional value. Disabled by default. Requires Java 21 or later, otherwise platform threads are
+         * used, see {@link VirtualThreads#isSupported()}.
+         *
+         * @param virtualThreads whether asynchronous calls run each on a new virtual thread, instead of the executor
+         *
+         * @return {@link Builder} which builds runtime
+         */
+        public Builder virtualThreads (boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+            return this;
+        }
+
+        /**
+         * Optional value. Disabled by default.
+         *
+         * @param logger   a logger of requests and responses
+         * @param logLevel logging level
+         *
+         * @return {@link Builder} which builds runtime
+         */
+        public Builder logger (Logger logger, Level logLevel) {
+            this.logger = logger;
+            this.logLevel = logLevel;
+            return this;
+        }
+
+        /**
+         * Optional value. By default only I/O errors are retried, unsuccessful responses are thrown immediately as
+         * {@link RemoteApiException}.
+         *
+         * @param retryPolicy a policy for repeating calls after flood control, server and I/O errors
+         *
+         * @return {@link Builder} which builds runtime
+         */
+        public Builder retryPolicy (RetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+            return this;
+        }
+
+        /**
+         * Optional value. Disabled by default.
+         *
+         * @param metrics a registry of per-method call counts, error codes, transferred bytes and latencies, for
+         *                example {@link ru.xxlabaza.telegram.api.metrics.HistogramMetricsRegistry}
+         *
+         * @return {@link Builder} which builds runtime
+         */
+        public Builder metrics (MetricsRegistry metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        /**
+         * @return a new {@link TelegramRuntime} instance
+         */
+        public TelegramRuntime build () {
+            return new TelegramRuntime(this);
+        }
+    }
+}
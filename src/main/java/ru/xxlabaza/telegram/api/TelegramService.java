@@ -23,12 +23,14 @@
  */
 package ru.xxlabaza.telegram.api;
 
-import feign.Feign;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Client;
 import feign.Logger;
 import feign.Logger.Level;
-import feign.jackson.JacksonDecoder;
-import feign.jackson.JacksonEncoder;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import lombok.Getter;
+import ru.xxlabaza.telegram.api.metrics.MetricsRegistry;
 
 /**
  * A service for working with Telegram API.
@@ -50,27 +52,52 @@ public final class TelegramService {
 
     private final TelegramApi api;
 
+    private final Executor executor;
+
     /**
      * @param token a unique bot's authentication token
      */
     public TelegramService (String token) {
-        api = Feign.builder()
-                .encoder(new JacksonEncoder())
-                .decoder(new JacksonDecoder())
-                .target(TelegramApi.class, URL + token);
+        this(builder().token(token));
     }
 
     /**
      * @param token   a unique bot's authentication token
-     * @param logFile path to log file
+     * @param logFile path to log file, which requests and responses are appended to
      */
     public TelegramService (String token, String logFile) {
-        api = Feign.builder()
-                .encoder(new JacksonEncoder())
-                .decoder(new JacksonDecoder())
-                .logger(new Logger.JavaLogger().appendToFile(logFile))
-                .logLevel(Level.FULL)
-                .target(TelegramApi.class, URL + token);
+        this(builder().token(token).logger(new Logger.JavaLogger().appendToFile(logFile), Level.FULL));
+    }
+
+    private TelegramService (Builder builder) {
+        this(builder.runtime.build(), builder.token, builder.rateLimiter);
+    }
+
+    TelegramService (TelegramRuntime runtime, String token, RateLimiter rateLimiter) {
+        if (token == null) {
+            throw new IllegalArgumentException("token value is required");
+        }
+        TelegramApi bot = new BotTelegramApi(token, runtime.getApi());
+        api = rateLimiter == null
+              ? bot
+              : new RateLimitedTelegramApi(bot, rateLimiter);
+        executor = runtime.getExecutor();
+    }
+
+    /**
+     * Creates a builder for a fine-tuned service, for example with a pooled HTTP transport:
+     * <pre>
+     * TelegramService service = TelegramService.builder()
+     *         .token("&lt;bot-api-token&gt;")
+     *         .client(PooledClient.builder().maxConnectionsPerRoute(50).build())
+     *         .readTimeout(30, TimeUnit.SECONDS)
+     *         .build();
+     * </pre>
+     *
+     * @return {@link Builder} which builds service
+     */
+    public static Builder builder () {
+        return new Builder();
     }
 
     /**
@@ -79,7 +106,7 @@ public final class TelegramService {
      * @return {@link GetMeRequestBuilder} which builds request
      */
     public GetMeRequestBuilder getMe () {
-        return new GetMeRequestBuilder(api);
+        return new GetMeRequestBuilder(api, executor);
     }
 
     /**
@@ -88,7 +115,16 @@ public final class TelegramService {
      * @return {@link SendMessageRequestBuilder} which builds request
      */
     public SendMessageRequestBuilder sendMessage () {
-        return new SendMessageRequestBuilder(api);
+        return new SendMessageRequestBuilder(api, executor);
+    }
+
+    /**
+     * Use this method to send the same text message to a large number of chats.
+     *
+     * @return {@link BroadcastRequestBuilder} which builds request
+     */
+    public BroadcastRequestBuilder broadcast () {
+        return new BroadcastRequestBuilder(api, executor);
     }
 
     /**
@@ -97,7 +133,7 @@ public final class TelegramService {
      * @return {@link ForwardMessageRequestBuilder} which builds request
      */
     public ForwardMessageRequestBuilder forwardMessage () {
-        return new ForwardMessageRequestBuilder(api);
+        return new ForwardMessageRequestBuilder(api, executor);
     }
 
     /**
@@ -106,7 +142,7 @@ public final class TelegramService {
      * @return {@link SendStickerRequestBuilder} which builds request
      */
     public SendStickerRequestBuilder sendSticker () {
-        return new SendStickerRequestBuilder(api);
+        return new SendStickerRequestBuilder(api, executor);
     }
 
     /**
@@ -115,7 +151,7 @@ public final class TelegramService {
      * @return {@link SendLocationRequestBuilder} which builds request
      */
     public SendLocationRequestBuilder sendLocation () {
-        return new SendLocationRequestBuilder(api);
+        return new SendLocationRequestBuilder(api, executor);
     }
 
     /**
@@ -131,7 +167,7 @@ public final class TelegramService {
      * @return {@link SendChatActionRequestBuilder} which builds request
      */
     public SendChatActionRequestBuilder sendChatAction () {
-        return new SendChatActionRequestBuilder(api);
+        return new SendChatActionRequestBuilder(api, executor);
     }
 
     /**
@@ -145,7 +181,7 @@ public final class TelegramService {
      * @return {@link GetUpdatesRequestBuilder} which builds request
      */
     public GetUpdatesRequestBuilder getUpdates () {
-        return new GetUpdatesRequestBuilder(api);
+        return new GetUpdatesRequestBuilder(api, executor);
     }
 
     /**
@@ -166,6 +202,184 @@ public final class TelegramService {
      * @return {@link SetWebhookRequestBuilder} which builds request
      */
     public SetWebhookRequestBuilder setWebhook () {
-        return new SetWebhookRequestBuilder(api);
+        return new SetWebhookRequestBuilder(api, executor);
+    }
+
+    /**
+     * A builder of {@link TelegramService} with custom transport and execution settings. Each built service gets its own
+     * {@link TelegramRuntime}; services of many bots should share one instead.
+     */
+    public static final class Builder {
+
+        private final TelegramRuntime.Builder runtime;
+
+        private String token;
+
+        private RateLimiter rateLimiter;
+
+        private Builder () {
+            runtime = TelegramRuntime.builder();
+        }
+
+        /**
+         * Required value.
+         *
+         * @param token a unique bot's authentication token
+         *
+         * @return {@link Builder} which builds service
+         */
+        public Builder token (String token) {
+            this.token = token;
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to <b>https://api.telegram.org/bot</b>.
+         *
+         * @param url a base URL of Bot API, the token is appended to it. Useful for a local Bot API server or a stub
+         *
+         * @return {@link Builder} which builds service
+         */
+        public Builder url (String url) {
+            runtime.url(url);
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to Feign's {@link Client.Default}, which is backed by
+         * {@link java.net.HttpURLConnection}.
+         *
+         * @param client an HTTP transport for sending requests, for example {@link PooledClient}
+         *
+         * @return {@link Builder} which builds service
+         */
+        public Builder client (Client client) {
+            runtime.client(client);
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to {@link ObjectMappers#shared()}, which is shared by all services.
+         *
+         * @param mapper a mapper for request and response bodies, usually created with {@link ObjectMappers#create()}
+         *
+         * @return {@link Builder} which builds service
+         */
+        public Builder mapper (ObjectMapper mapper) {
+            runtime.mapper(mapper);
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to 10 seconds.
+         *
+         * @param timeout connection establishment timeout
+         * @param unit    timeout's time unit
+         *
+         * @return {@link Builder} which builds service
+         */
+        public Builder connectTimeout (long timeout, TimeUnit unit) {
+            runtime.connectTimeout(timeout, unit);
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to 60 seconds. Must be greater than the long polling timeout of getUpdates calls.
+         *
+         * @param timeout socket read timeout
+         * @param unit    timeout's time unit
+         *
+         * @return {@link Builder} which builds service
+         */
+        public Builder readTimeout (long timeout, TimeUnit unit) {
+            runtime.readTimeout(timeout, unit);
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to a shared pool of 64 daemon threads, which runs up to 64 calls at a time and
+         * queues the rest. Bots with more concurrent calls take an executor of their own, or virtual threads.
+         *
+         * @param executor an executor for asynchronous calls
+         *
+         * @return {@link Builder} which builds service
+         */
+        public Builder executor (Executor executor) {
+            runtime.executor(executor);
+            return this;
+        }
+
+        /**
+         * Optional value. Disabled by default. Requires Java 21 or later, otherwise platform threads are
+         * used, see {@link VirtualThreads#isSupported()}.
+         *
+         * @param virtualThreads whether asynchronous calls run each on a new virtual thread, instead of the executor
+         *
+         * @return {@link Builder} which builds service
+         */
+        public Builder virtualThreads (boolean virtualThreads) {
+            runtime.virtualThreads(virtualThreads);
+            return this;
+        }
+
+        /**
+         * Optional value. Disabled by default.
+         *
+         * @param logger   a logger of requests and responses
+         * @param logLevel logging level
+         *
+         * @return {@link Builder} which builds service
+         */
+        public Builder logger (Logger logger, Level logLevel) {
+            runtime.logger(logger, logLevel);
+            return this;
+        }
+
+        /**
+         * Optional value. Disabled by default.
+         *
+         * @param metrics a registry of per-method call counts, error codes, transferred bytes and latencies, for
+         *                example {@link ru.xxlabaza.telegram.api.metrics.HistogramMetricsRegistry}
+         *
+         * @return {@link Builder} which builds service
+         */
+        public Builder metrics (MetricsRegistry metrics) {
+            runtime.metrics(metrics);
+            return this;
+        }
+
+        /**
+         * Optional value. Disabled by default.
+         *
+         * @param rateLimiter a limiter, which paces sent messages according to Telegram's flood limits
+         *
+         * @return {@link Builder} which builds service
+         */
+        public Builder rateLimiter (RateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
+        /**
+         * Optional value. By default only I/O errors are retried, unsuccessful responses are thrown immediately as
+         * {@link RemoteApiException}.
+         *
+         * @param retryPolicy a policy for repeating calls after flood control, server and I/O errors
+         *
+         * @return {@link Builder} which builds service
+         */
+        public Builder retryPolicy (RetryPolicy retryPolicy) {
+            runtime.retryPolicy(retryPolicy);
+            return this;
+        }
+
+        /**
+         * @return a new {@link TelegramService} instance
+         *
+         * @exception IllegalArgumentException if <b>token</b> is not set.
+         */
+        public TelegramService build () {
+            return new TelegramService(this);
+        }
     }
 }
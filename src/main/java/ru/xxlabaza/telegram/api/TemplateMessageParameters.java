@@ -0,0 +1,101 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import lombok.Getter;
+
+/**
+ * Parameters of sendMessage method for one recipient of a message, which is shared by many recipients.
+ * <p>
+ * Everything except the chat identifier is serialized once, into a {@link Template}, and written raw into each
+ * request body.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 5:31:26 PM
+ *
+ * @version 1.0.0
+ */
+@JsonSerialize(using = TemplateMessageParameters.Serializer.class)
+class TemplateMessageParameters {
+
+    @Getter
+    private final String chat;
+
+    private final Template template;
+
+    TemplateMessageParameters (String chat, Template template) {
+        this.chat = chat;
+        this.template = template;
+    }
+
+    /**
+     * Serialized parameters of a message, except the chat identifier.
+     */
+    static class Template {
+
+        private final SerializedString fields;
+
+        Template (SendMessageParameters parameters) {
+            if (parameters.getChat() != null) {
+                throw new IllegalArgumentException("template must not contain a chat");
+            }
+            String json;
+            try {
+                json = ObjectMappers.shared().writeValueAsString(parameters);
+            } catch (JsonProcessingException ex) {
+                throw new IllegalArgumentException("unable to serialize message", ex);
+            }
+            // the object's fields without the braces, followed by a separator for the chat field
+            fields = new SerializedString(json.substring(1, json.length() - 1) + ',');
+            // encoded eagerly, as ReplyMarkup does
+            fields.asUnquotedUTF8();
+        }
+    }
+
+    static class Serializer extends StdSerializer<TemplateMessageParameters> {
+
+        private static final long serialVersionUID = -4583402219731866157L;
+
+        Serializer () {
+            super(TemplateMessageParameters.class);
+        }
+
+        @Override
+        public void serialize (TemplateMessageParameters value, JsonGenerator generator, SerializerProvider provider
+        ) throws IOException {
+            generator.writeStartObject();
+            generator.writeRaw(value.template.fields);
+            generator.writeStringField("chat_id", value.chat);
+            generator.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api;
+
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Target;
+
+/**
+ * A target of {@link SharedTelegramApi}, which builds each request's URL from the base URL and the token, passed in
+ * the {@value #TOKEN_HEADER} header. The header is removed, so requests are the same as ones of a single bot's target.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 9:26:44 PM
+ *
+ * @version 1.0.0
+ */
+class TokenTarget implements Target<SharedTelegramApi> {
+
+    static final String TOKEN_HEADER = "X-Telegram-Bot-Token";
+
+    private final String url;
+
+    TokenTarget (String url) {
+        this.url = url;
+    }
+
+    @Override
+    public Class<SharedTelegramApi> type () {
+        return SharedTelegramApi.class;
+    }
+
+    @Override
+    public String name () {
+        return url;
+    }
+
+    @Override
+    public String url () {
+        return url;
+    }
+
+    @Override
+    public Request apply (RequestTemplate input) {
+        String token = input.headers().get(TOKEN_HEADER).iterator().next();
+        input.header(TOKEN_HEADER, (String) null);
+        input.insert(0, url + token);
+        return input.request();
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.codec.DecodeException;
+import feign.codec.Decoder;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import ru.xxlabaza.telegram.api.type.ResponseParameters;
+import ru.xxlabaza.telegram.api.type.Update;
+
+/**
+ * A decoder, which walks the result array of a getUpdates response with a streaming parser and passes each
+ * {@link Update} to a consumer as soon as it is parsed, instead of materializing the whole list.
+ * <p>
+ * Feign decodes on the calling thread, so the consumer is bound to the thread for the duration of a
+ * {@link #stream(Consumer, Supplier)} call. Other calls are decoded by the delegate, including the ones made by the
+ * consumer itself.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 8:12:40 PM
+ *
+ * @version 1.0.0
+ */
+class UpdateStreamDecoder implements Decoder {
+
+    private static final ThreadLocal<Binding> BINDING = new ThreadLocal<>();
+
+    private final Decoder delegate;
+
+    private final ObjectMapper mapper;
+
+    UpdateStreamDecoder (Decoder delegate, ObjectMapper mapper) {
+        this.delegate = delegate;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Performs a call, which decodes updates to the consumer.
+     *
+     * @param consumer a consumer of parsed updates
+     * @param call     a call of {@link TelegramApi#streamUpdates(GetUpdatesParameters)}
+     *
+     * @return the call's response with the number of consumed updates as its result
+     */
+    static Response<Integer> stream (Consumer<? super Update> consumer, Supplier<Response<Integer>> call) {
+        Binding binding = new Binding(consumer);
+        BINDING.set(binding);
+        try {
+            return call.get();
+        } catch (DecodeException ex) {
+            if (binding.failure != null) {
+                throw binding.failure;
+            }
+            throw ex;
+        } finally {
+            BINDING.remove();
+        }
+    }
+
+    @Override
+    public Object decode (feign.Response response, Type type) throws IOException {
+        Binding binding = BINDING.get();
+        if (binding == null || response.body() == null) {
+            return delegate.decode(response, type);
+        }
+        BINDING.remove();
+        try {
+            return decode(response, binding);
+        } finally {
+            BINDING.set(binding);
+        }
+    }
+
+    private Response<Integer> decode (feign.Response response, Binding binding) throws IOException {
+        Response<Integer> result = new Response<>();
+        int count = 0;
+        try (JsonParser parser = mapper.getFactory().createParser(response.body().asInputStream())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new DecodeException("getUpdates response is not a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                switch (field) {
+                case "ok":
+                    result.setOk(token == JsonToken.VALUE_TRUE);
+                    break;
+                case "result":
+                    if (token != JsonToken.START_ARRAY) {
+                        parser.skipChildren();
+                        break;
+                    }
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        Update update = mapper.readValue(parser, Update.class);
+                        binding.accept(update);
+                        count++;
+                    }
+                    break;
+                case "description":
+                    result.setError(parser.getValueAsString());
+                    break;
+                case "error_code":
+                    result.setErrorCode(parser.getValueAsInt());
+                    break;
+                case "parameters":
+                    result.setParameters(mapper.readValue(parser, ResponseParameters.class));
+                    break;
+                default:
+                    parser.skipChildren();
+                }
+            }
+        }
+        result.setResult(count);
+        return result;
+    }
+
+    private static final class Binding {
+
+        private final Consumer<? super Update> consumer;
+
+        private RuntimeException failure;
+
+        Binding (Consumer<? super Update> consumer) {
+            this.consumer = consumer;
+        }
+
+        void accept (Update update) {
+            try {
+                consumer.accept(update);
+            } catch (RuntimeException ex) {
+                failure = ex;
+                throw ex;
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * Factories of virtual threads, for running blocking calls and update handlers without occupying platform threads.
+ * <p>
+ * This is the variant for Java versions before 21, which have no virtual threads, and for jars built without the
+ * Java 21 classes. It falls back to daemon platform threads, so components configured for virtual threads still run,
+ * only with a platform thread per task. On Java 21 and later, the multi-release jar provides a variant, which creates
+ * virtual threads.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 11:50:14 PM
+ *
+ * @version 1.0.0
+ */
+public final class VirtualThreads {
+
+    private static final Logger LOGGER = Logger.getLogger(VirtualThreads.class.getName());
+
+    private static final AtomicBoolean WARNED = new AtomicBoolean();
+
+    private VirtualThreads () {
+    }
+
+    /**
+     * @return true if the runtime supports virtual threads, false if platform threads are used instead
+     */
+    public static boolean isSupported () {
+        return false;
+    }
+
+    /**
+     * @param prefix a prefix of thread names, followed by a sequence number
+     *
+     * @return a factory of virtual threads, or of daemon platform threads if they are not supported
+     */
+    public static ThreadFactory factory (String prefix) {
+        if (WARNED.compareAndSet(false, true)) {
+            LOGGER.warning("virtual threads require Java 21 or later, platform threads are used instead");
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * @param prefix a prefix of thread names, followed by a sequence number
+     *
+     * @return an executor, which runs each task on a new virtual thread, or on a cached daemon platform thread if they
+     *         are not supported
+     */
+    public static ExecutorService newExecutor (String prefix) {
+        return Executors.newCachedThreadPool(factory(prefix));
+    }
+}
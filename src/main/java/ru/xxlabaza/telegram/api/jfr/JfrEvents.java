@@ -0,0 +1,116 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api.jfr;
+
+import feign.Request;
+import feign.Response;
+import ru.xxlabaza.telegram.api.type.Update;
+
+/**
+ * Hooks, which emit Java Flight Recorder events of API calls and handled updates.
+ * <p>
+ * This is the Java 8 variant, where all hooks do nothing. On Java 11 and later, the multi-release jar provides a
+ * variant, which emits <b>ru.xxlabaza.telegram.ApiCall</b> and <b>ru.xxlabaza.telegram.UpdateHandled</b> events,
+ * and costs a single enabled check per hook when recording is off.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 11:41:05 PM
+ *
+ * @version 1.0.0
+ */
+public final class JfrEvents {
+
+    private JfrEvents () {
+    }
+
+    /**
+     * Marks the start of an API call on the current thread.
+     *
+     * @return true if the call began an event, which {@link #callFinished(boolean, String, boolean, int)} must end
+     */
+    public static boolean callStarted () {
+        // no flight recorder before Java 11
+        return false;
+    }
+
+    /**
+     * Marks the end of the call's request encoding.
+     */
+    public static void requestEncoded () {
+        // no flight recorder before Java 11
+    }
+
+    /**
+     * Marks the receipt of the call's response headers.
+     *
+     * @param request  the sent request
+     * @param response the received response
+     */
+    public static void responseReceived (Request request, Response response) {
+        // no flight recorder before Java 11
+    }
+
+    /**
+     * Marks the end of the API call on the current thread.
+     *
+     * @param began     the result of the call's {@link #callStarted()}
+     * @param chat      the call's target chat, or null
+     * @param ok        true if the call was successful
+     * @param errorCode Bot API's <b>error_code</b> of the unsuccessful call, or 0
+     */
+    public static void callFinished (boolean began, String chat, boolean ok, int errorCode) {
+        // no flight recorder before Java 11
+    }
+
+    /**
+     * @return true if handled updates are recorded, so their enqueue time should be captured
+     */
+    public static boolean isUpdateEnabled () {
+        return false;
+    }
+
+    /**
+     * Marks the start of an update's handling on the current thread.
+     *
+     * @param queuedAt {@link System#nanoTime()} when the update was queued for the handler, or 0 if unknown
+     *
+     * @return true if the handling began an event, which {@link #updateFinished(boolean, String, Update)} must end
+     */
+    public static boolean updateStarted (long queuedAt) {
+        // no flight recorder before Java 11
+        return false;
+    }
+
+    /**
+     * Marks the end of the update's handling on the current thread.
+     *
+     * @param began  the result of the handling's {@link #updateStarted(long)}
+     * @param source a component, which handled the update, like <b>dispatcher</b> or <b>webhook</b>
+     * @param update the handled update
+     */
+    public static void updateFinished (boolean began, String source, Update update) {
+        // no flight recorder before Java 11
+    }
+}
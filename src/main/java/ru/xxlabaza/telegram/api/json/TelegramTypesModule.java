@@ -0,0 +1,79 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api.json;
+
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import ru.xxlabaza.telegram.api.type.Chat;
+import ru.xxlabaza.telegram.api.type.Contact;
+import ru.xxlabaza.telegram.api.type.Location;
+import ru.xxlabaza.telegram.api.type.Message;
+import ru.xxlabaza.telegram.api.type.PhotoSize;
+import ru.xxlabaza.telegram.api.type.Sticker;
+import ru.xxlabaza.telegram.api.type.Update;
+import ru.xxlabaza.telegram.api.type.User;
+
+/**
+ * A Jackson module with hand-written streaming codecs of the types, which make up updates: {@link Update},
+ * {@link Message}, {@link User}, {@link Chat}, {@link Sticker}, {@link PhotoSize}, {@link Location} and
+ * {@link Contact}.
+ * <p>
+ * The codecs bind fields without reflection or generated accessors, and nested objects without looking up their
+ * codecs. Unknown fields are handled as the mapper is configured to. Null values and false flags are not written.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 1:02:14 AM
+ *
+ * @version 1.0.0
+ */
+public final class TelegramTypesModule extends SimpleModule {
+
+    private static final long serialVersionUID = -3300917744126470342L;
+
+    /**
+     * Creates a module, which registers the codecs of all listed types.
+     */
+    public TelegramTypesModule () {
+        super("TelegramTypesModule", Version.unknownVersion());
+
+        addDeserializer(Update.class, TypeDeserializers.UPDATE);
+        addDeserializer(Message.class, TypeDeserializers.MESSAGE);
+        addDeserializer(User.class, TypeDeserializers.USER);
+        addDeserializer(Chat.class, TypeDeserializers.CHAT);
+        addDeserializer(Sticker.class, TypeDeserializers.STICKER);
+        addDeserializer(PhotoSize.class, TypeDeserializers.PHOTO_SIZE);
+        addDeserializer(Location.class, TypeDeserializers.LOCATION);
+        addDeserializer(Contact.class, TypeDeserializers.CONTACT);
+
+        addSerializer(Update.class, TypeSerializers.UPDATE);
+        addSerializer(Message.class, TypeSerializers.MESSAGE);
+        addSerializer(User.class, TypeSerializers.USER);
+        addSerializer(Chat.class, TypeSerializers.CHAT);
+        addSerializer(Sticker.class, TypeSerializers.STICKER);
+        addSerializer(PhotoSize.class, TypeSerializers.PHOTO_SIZE);
+        addSerializer(Location.class, TypeSerializers.LOCATION);
+        addSerializer(Contact.class, TypeSerializers.CONTACT);
+    }
+}
@@ -0,0 +1,513 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.std.NumberDeserializers;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import ru.xxlabaza.telegram.api.type.Chat;
+import ru.xxlabaza.telegram.api.type.Contact;
+import ru.xxlabaza.telegram.api.type.Location;
+import ru.xxlabaza.telegram.api.type.Message;
+import ru.xxlabaza.telegram.api.type.PhotoSize;
+import ru.xxlabaza.telegram.api.type.Sticker;
+import ru.xxlabaza.telegram.api.type.Update;
+import ru.xxlabaza.telegram.api.type.User;
+
+/**
+ * Streaming deserializers of the core Telegram API types. They read fields straight from parser tokens and call the
+ * setters, nested objects are read by calling their deserializers directly.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 12:31:08 AM
+ *
+ * @version 1.0.0
+ */
+final class TypeDeserializers {
+
+    static final JsonDeserializer<Update> UPDATE = new UpdateDeserializer();
+
+    static final JsonDeserializer<Message> MESSAGE = new MessageDeserializer();
+
+    static final JsonDeserializer<User> USER = new UserDeserializer();
+
+    static final JsonDeserializer<Chat> CHAT = new ChatDeserializer();
+
+    static final JsonDeserializer<Sticker> STICKER = new StickerDeserializer();
+
+    static final JsonDeserializer<PhotoSize> PHOTO_SIZE = new PhotoSizeDeserializer();
+
+    static final JsonDeserializer<Location> LOCATION = new LocationDeserializer();
+
+    static final JsonDeserializer<Contact> CONTACT = new ContactDeserializer();
+
+    private TypeDeserializers () {
+    }
+
+    /**
+     * A deserializer of a JSON object into a bean. Unknown fields are handled the way the context is configured to.
+     *
+     * @param <T> type of the bean
+     */
+    private abstract static class ObjectDeserializer<T> extends StdDeserializer<T> {
+
+        private static final long serialVersionUID = 5140917245632117020L;
+
+        ObjectDeserializer (Class<T> type) {
+            super(type);
+        }
+
+        @Override
+        public T deserialize (JsonParser parser, DeserializationContext context) throws IOException {
+            String field;
+            if (parser.isExpectedStartObjectToken()) {
+                field = parser.nextFieldName();
+            } else if (parser.getCurrentToken() == JsonToken.FIELD_NAME) {
+                field = parser.getCurrentName();
+            } else {
+                throw context.mappingException(handledType(), parser.getCurrentToken());
+            }
+
+            T bean = create();
+            for (; field != null; field = parser.nextFieldName()) {
+                parser.nextToken();
+                if (!read(parser, context, bean, field)) {
+                    handleUnknownProperty(parser, context, bean, field);
+                }
+            }
+            return bean;
+        }
+
+        /**
+         * @return a new empty bean
+         */
+        abstract T create ();
+
+        /**
+         * Reads a field's value, the parser is at the value's first token.
+         *
+         * @param parser  the parser
+         * @param context the context
+         * @param bean    the bean being read
+         * @param field   the field's name
+         *
+         * @return false if the field is unknown
+         *
+         * @throws IOException if the value could not be read
+         */
+        abstract boolean read (JsonParser parser, DeserializationContext context, T bean, String field)
+                throws IOException;
+
+        String readString (JsonParser parser, DeserializationContext context) throws IOException {
+            JsonToken token = parser.getCurrentToken();
+            if (token == JsonToken.VALUE_STRING) {
+                return parser.getText();
+            }
+            return token == JsonToken.VALUE_NULL
+                   ? null
+                   : _parseString(parser, context);
+        }
+
+        Integer readInteger (JsonParser parser, DeserializationContext context) throws IOException {
+            JsonToken token = parser.getCurrentToken();
+            if (token == JsonToken.VALUE_NUMBER_INT) {
+                return parser.getIntValue();
+            }
+            return token == JsonToken.VALUE_NULL
+                   ? null
+                   : _parseInteger(parser, context);
+        }
+
+        BigDecimal readDecimal (JsonParser parser, DeserializationContext context) throws IOException {
+            switch (parser.getCurrentToken()) {
+            case VALUE_NUMBER_FLOAT:
+            case VALUE_NUMBER_INT:
+                return parser.getDecimalValue();
+            case VALUE_NULL:
+                return null;
+            default:
+                return NumberDeserializers.BigDecimalDeserializer.instance.deserialize(parser, context);
+            }
+        }
+
+        <V> V readObject (JsonParser parser, DeserializationContext context, JsonDeserializer<V> deserializer)
+                throws IOException {
+            return parser.getCurrentToken() == JsonToken.VALUE_NULL
+                   ? null
+                   : deserializer.deserialize(parser, context);
+        }
+
+        <V> List<V> readList (JsonParser parser, DeserializationContext context, JsonDeserializer<V> deserializer)
+                throws IOException {
+            JsonToken token = parser.getCurrentToken();
+            if (token == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            if (token != JsonToken.START_ARRAY) {
+                throw context.mappingException(List.class, token);
+            }
+            List<V> list = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                list.add(readObject(parser, context, deserializer));
+            }
+            return list;
+        }
+    }
+
+    private static final class UpdateDeserializer extends ObjectDeserializer<Update> {
+
+        private static final long serialVersionUID = -2213437788520577463L;
+
+        UpdateDeserializer () {
+            super(Update.class);
+        }
+
+        @Override
+        Update create () {
+            return new Update();
+        }
+
+        @Override
+        boolean read (JsonParser parser, DeserializationContext context, Update update, String field)
+                throws IOException {
+            switch (field) {
+            case "update_id":
+                update.setId(readInteger(parser, context));
+                return true;
+            case "message":
+                update.setMessage(readObject(parser, context, MESSAGE));
+                return true;
+            default:
+                return false;
+            }
+        }
+    }
+
+    private static final class MessageDeserializer extends ObjectDeserializer<Message> {
+
+        private static final long serialVersionUID = 8317370905271539735L;
+
+        MessageDeserializer () {
+            super(Message.class);
+        }
+
+        @Override
+        Message create () {
+            return new Message();
+        }
+
+        @Override
+        boolean read (JsonParser parser, DeserializationContext context, Message message, String field)
+                throws IOException {
+            switch (field) {
+            case "message_id":
+                message.setId(readInteger(parser, context));
+                return true;
+            case "from":
+                message.setFrom(readObject(parser, context, USER));
+                return true;
+            case "date":
+                message.setDate(readInteger(parser, context));
+                return true;
+            case "chat":
+                message.setChat(readObject(parser, context, CHAT));
+                return true;
+            case "forward_from":
+                message.setForwardFrom(readObject(parser, context, USER));
+                return true;
+            case "forward_date":
+                message.setForwardDate(readInteger(parser, context));
+                return true;
+            case "reply_to_message":
+                message.setReplyTo(readObject(parser, context, this));
+                return true;
+            case "text":
+                message.setText(readString(parser, context));
+                return true;
+            case "sticker":
+                message.setSticker(readObject(parser, context, STICKER));
+                return true;
+            case "contact":
+                message.setContact(readObject(parser, context, CONTACT));
+                return true;
+            case "location":
+                message.setLocation(readObject(parser, context, LOCATION));
+                return true;
+            case "new_chat_participant":
+                message.setNewMember(readObject(parser, context, USER));
+                return true;
+            case "left_chat_participant":
+                message.setLeftMember(readObject(parser, context, USER));
+                return true;
+            case "new_chat_title":
+                message.setNewTitle(readString(parser, context));
+                return true;
+            case "new_chat_photo":
+                message.setNewChatPhoto(readList(parser, context, PHOTO_SIZE));
+                return true;
+            case "delete_chat_photo":
+                message.setDeleteChatPhoto(_parseBooleanPrimitive(parser, context));
+                return true;
+            case "group_chat_created":
+                message.setGroupChatCreated(_parseBooleanPrimitive(parser, context));
+                return true;
+            case "supergroup_chat_created":
+                message.setSupergroupChatCreated(_parseBooleanPrimitive(parser, context));
+                return true;
+            case "channel_chat_created":
+                message.setChannelChatCreated(_parseBooleanPrimitive(parser, context));
+                return true;
+            case "migrate_to_chat_id":
+                message.setMigrateTo(readInteger(parser, context));
+                return true;
+            case "migrate_from_chat_id":
+                message.setMigrateFrom(readInteger(parser, context));
+                return true;
+            default:
+                return false;
+            }
+        }
+    }
+
+    private static final class UserDeserializer extends ObjectDeserializer<User> {
+
+        private static final long serialVersionUID = 4467263164931440158L;
+
+        UserDeserializer () {
+            super(User.class);
+        }
+
+        @Override
+        User create () {
+            return new User();
+        }
+
+        @Override
+        boolean read (JsonParser parser, DeserializationContext context, User user, String field)
+                throws IOException {
+            switch (field) {
+            case "id":
+                user.setId(readInteger(parser, context));
+                return true;
+            case "first_name":
+                user.setFirstName(readString(parser, context));
+                return true;
+            case "last_name":
+                user.setLastName(readString(parser, context));
+                return true;
+            case "username":
+                user.setUsername(readString(parser, context));
+                return true;
+            default:
+                return false;
+            }
+        }
+    }
+
+    private static final class ChatDeserializer extends ObjectDeserializer<Chat> {
+
+        private static final long serialVersionUID = -6950387201632873470L;
+
+        ChatDeserializer () {
+            super(Chat.class);
+        }
+
+        @Override
+        Chat create () {
+            return new Chat();
+        }
+
+        @Override
+        boolean read (JsonParser parser, DeserializationContext context, Chat chat, String field)
+                throws IOException {
+            switch (field) {
+            case "id":
+                chat.setId(readInteger(parser, context));
+                return true;
+            case "type":
+                chat.setType(readString(parser, context));
+                return true;
+            case "title":
+                chat.setTitle(readString(parser, context));
+                return true;
+            case "username":
+                chat.setUsername(readString(parser, context));
+                return true;
+            case "first_name":
+                chat.setFirstName(readString(parser, context));
+                return true;
+            case "last_name":
+                chat.setLastName(readString(parser, context));
+                return true;
+            default:
+                return false;
+            }
+        }
+    }
+
+    private static final class StickerDeserializer extends ObjectDeserializer<Sticker> {
+
+        private static final long serialVersionUID = 2961608153740628563L;
+
+        StickerDeserializer () {
+            super(Sticker.class);
+        }
+
+        @Override
+        Sticker create () {
+            return new Sticker();
+        }
+
+        @Override
+        boolean read (JsonParser parser, DeserializationContext context, Sticker sticker, String field)
+                throws IOException {
+            switch (field) {
+            case "file_id":
+                sticker.setId(readString(parser, context));
+                return true;
+            case "width":
+                sticker.setWidth(readInteger(parser, context));
+                return true;
+            case "height":
+                sticker.setHeight(readInteger(parser, context));
+                return true;
+            case "thumb":
+                sticker.setThumb(readObject(parser, context, PHOTO_SIZE));
+                return true;
+            case "file_size":
+                sticker.setSize(readInteger(parser, context));
+                return true;
+            default:
+                return false;
+            }
+        }
+    }
+
+    private static final class PhotoSizeDeserializer extends ObjectDeserializer<PhotoSize> {
+
+        private static final long serialVersionUID = -8095567412874470218L;
+
+        PhotoSizeDeserializer () {
+            super(PhotoSize.class);
+        }
+
+        @Override
+        PhotoSize create () {
+            return new PhotoSize();
+        }
+
+        @Override
+        boolean read (JsonParser parser, DeserializationContext context, PhotoSize photo, String field)
+                throws IOException {
+            switch (field) {
+            case "file_id":
+                photo.setId(readString(parser, context));
+                return true;
+            case "width":
+                photo.setWidth(readInteger(parser, context));
+                return true;
+            case "height":
+                photo.setHeight(readInteger(parser, context));
+                return true;
+            case "file_size":
+                photo.setSize(readInteger(parser, context));
+                return true;
+            default:
+                return false;
+            }
+        }
+    }
+
+    private static final class LocationDeserializer extends ObjectDeserializer<Location> {
+
+        private static final long serialVersionUID = 7368906544807372591L;
+
+        LocationDeserializer () {
+            super(Location.class);
+        }
+
+        @Override
+        Location create () {
+            return new Location();
+        }
+
+        @Override
+        boolean read (JsonParser parser, DeserializationContext context, Location location, String field)
+                throws IOException {
+            switch (field) {
+            case "longitude":
+                location.setLongitude(readDecimal(parser, context));
+                return true;
+            case "latitude":
+                location.setLatitude(readDecimal(parser, context));
+                return true;
+            default:
+                return false;
+            }
+        }
+    }
+
+    private static final class ContactDeserializer extends ObjectDeserializer<Contact> {
+
+        private static final long serialVersionUID = -1751096032416683574L;
+
+        ContactDeserializer () {
+            super(Contact.class);
+        }
+
+        @Override
+        Contact create () {
+            return new Contact();
+        }
+
+        @Override
+        boolean read (JsonParser parser, DeserializationContext context, Contact contact, String field)
+                throws IOException {
+            switch (field) {
+            case "phone_number":
+                contact.setPhoneNumber(readString(parser, context));
+                return true;
+            case "first_name":
+                contact.setFirstName(readString(parser, context));
+                return true;
+            case "last_name":
+                contact.setLastName(readString(parser, context));
+                return true;
+            case "user_id":
+                contact.setUserId(readString(parser, context));
+                return true;
+            default:
+                return false;
+            }
+        }
+    }
+}
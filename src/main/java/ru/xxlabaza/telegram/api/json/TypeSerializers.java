@@ -0,0 +1,388 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import ru.xxlabaza.telegram.api.type.Chat;
+import ru.xxlabaza.telegram.api.type.Contact;
+import ru.xxlabaza.telegram.api.type.Location;
+import ru.xxlabaza.telegram.api.type.Message;
+import ru.xxlabaza.telegram.api.type.PhotoSize;
+import ru.xxlabaza.telegram.api.type.Sticker;
+import ru.xxlabaza.telegram.api.type.Update;
+import ru.xxlabaza.telegram.api.type.User;
+
+/**
+ * Streaming serializers of the core Telegram API types. They write fields with pre-encoded names straight to the
+ * generator, omitting null values and false flags, as the Bot API does.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 12:48:52 AM
+ *
+ * @version 1.0.0
+ */
+final class TypeSerializers {
+
+    static final JsonSerializer<Update> UPDATE = new UpdateSerializer();
+
+    static final JsonSerializer<Message> MESSAGE = new MessageSerializer();
+
+    static final JsonSerializer<User> USER = new UserSerializer();
+
+    static final JsonSerializer<Chat> CHAT = new ChatSerializer();
+
+    static final JsonSerializer<Sticker> STICKER = new StickerSerializer();
+
+    static final JsonSerializer<PhotoSize> PHOTO_SIZE = new PhotoSizeSerializer();
+
+    static final JsonSerializer<Location> LOCATION = new LocationSerializer();
+
+    static final JsonSerializer<Contact> CONTACT = new ContactSerializer();
+
+    private static final SerializableString ID = new SerializedString("id");
+
+    private static final SerializableString FILE_ID = new SerializedString("file_id");
+
+    private static final SerializableString FILE_SIZE = new SerializedString("file_size");
+
+    private static final SerializableString WIDTH = new SerializedString("width");
+
+    private static final SerializableString HEIGHT = new SerializedString("height");
+
+    private static final SerializableString FIRST_NAME = new SerializedString("first_name");
+
+    private static final SerializableString LAST_NAME = new SerializedString("last_name");
+
+    private static final SerializableString USERNAME = new SerializedString("username");
+
+    private TypeSerializers () {
+    }
+
+    /**
+     * A serializer of a bean into a JSON object.
+     *
+     * @param <T> type of the bean
+     */
+    private abstract static class ObjectSerializer<T> extends StdSerializer<T> {
+
+        private static final long serialVersionUID = 3632194986390804949L;
+
+        ObjectSerializer (Class<T> type) {
+            super(type);
+        }
+
+        @Override
+        public void serialize (T bean, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeStartObject();
+            write(bean, generator, provider);
+            generator.writeEndObject();
+        }
+
+        /**
+         * Writes the bean's fields.
+         *
+         * @param bean      the bean
+         * @param generator the generator, within the bean's object
+         * @param provider  the provider
+         *
+         * @throws IOException if a field could not be written
+         */
+        abstract void write (T bean, JsonGenerator generator, SerializerProvider provider) throws IOException;
+
+        void writeString (JsonGenerator generator, SerializableString field, String value) throws IOException {
+            if (value != null) {
+                generator.writeFieldName(field);
+                generator.writeString(value);
+            }
+        }
+
+        void writeInteger (JsonGenerator generator, SerializableString field, Integer value) throws IOException {
+            if (value != null) {
+                generator.writeFieldName(field);
+                generator.writeNumber(value);
+            }
+        }
+
+        void writeDecimal (JsonGenerator generator, SerializableString field, BigDecimal value) throws IOException {
+            if (value != null) {
+                generator.writeFieldName(field);
+                generator.writeNumber(value);
+            }
+        }
+
+        void writeFlag (JsonGenerator generator, SerializableString field, boolean value) throws IOException {
+            if (value) {
+                generator.writeFieldName(field);
+                generator.writeBoolean(true);
+            }
+        }
+
+        <V> void writeObject (JsonGenerator generator, SerializerProvider provider, SerializableString field,
+                              V value, JsonSerializer<V> serializer) throws IOException {
+            if (value != null) {
+                generator.writeFieldName(field);
+                serializer.serialize(value, generator, provider);
+            }
+        }
+
+        <V> void writeList (JsonGenerator generator, SerializerProvider provider, SerializableString field,
+                            List<V> values, JsonSerializer<V> serializer) throws IOException {
+            if (values == null) {
+                return;
+            }
+            generator.writeFieldName(field);
+            generator.writeStartArray();
+            for (V value : values) {
+                if (value == null) {
+                    generator.writeNull();
+                } else {
+                    serializer.serialize(value, generator, provider);
+                }
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    private static final class UpdateSerializer extends ObjectSerializer<Update> {
+
+        private static final long serialVersionUID = 2937693471279272409L;
+
+        private static final SerializableString UPDATE_ID = new SerializedString("update_id");
+
+        private static final SerializableString MESSAGE_FIELD = new SerializedString("message");
+
+        UpdateSerializer () {
+            super(Update.class);
+        }
+
+        @Override
+        void write (Update update, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            writeInteger(generator, UPDATE_ID, update.getId());
+            writeObject(generator, provider, MESSAGE_FIELD, update.getMessage(), MESSAGE);
+        }
+    }
+
+    private static final class MessageSerializer extends ObjectSerializer<Message> {
+
+        private static final long serialVersionUID = 1992457889858451697L;
+
+        private static final SerializableString MESSAGE_ID = new SerializedString("message_id");
+
+        private static final SerializableString FROM = new SerializedString("from");
+
+        private static final SerializableString DATE = new SerializedString("date");
+
+        private static final SerializableString CHAT_FIELD = new SerializedString("chat");
+
+        private static final SerializableString FORWARD_FROM = new SerializedString("forward_from");
+
+        private static final SerializableString FORWARD_DATE = new SerializedString("forward_date");
+
+        private static final SerializableString REPLY_TO_MESSAGE = new SerializedString("reply_to_message");
+
+        private static final SerializableString TEXT = new SerializedString("text");
+
+        private static final SerializableString STICKER_FIELD = new SerializedString("sticker");
+
+        private static final SerializableString CONTACT_FIELD = new SerializedString("contact");
+
+        private static final SerializableString LOCATION_FIELD = new SerializedString("location");
+
+        private static final SerializableString NEW_CHAT_PARTICIPANT = new SerializedString("new_chat_participant");
+
+        private static final SerializableString LEFT_CHAT_PARTICIPANT = new SerializedString("left_chat_participant");
+
+        private static final SerializableString NEW_CHAT_TITLE = new SerializedString("new_chat_title");
+
+        private static final SerializableString NEW_CHAT_PHOTO = new SerializedString("new_chat_photo");
+
+        private static final SerializableString DELETE_CHAT_PHOTO = new SerializedString("delete_chat_photo");
+
+        private static final SerializableString GROUP_CHAT_CREATED = new SerializedString("group_chat_created");
+
+        private static final SerializableString SUPERGROUP_CHAT_CREATED =
+                new SerializedString("supergroup_chat_created");
+
+        private static final SerializableString CHANNEL_CHAT_CREATED = new SerializedString("channel_chat_created");
+
+        private static final SerializableString MIGRATE_TO_CHAT_ID = new SerializedString("migrate_to_chat_id");
+
+        private static final SerializableString MIGRATE_FROM_CHAT_ID = new SerializedString("migrate_from_chat_id");
+
+        MessageSerializer () {
+            super(Message.class);
+        }
+
+        @Override
+        void write (Message message, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            writeInteger(generator, MESSAGE_ID, message.getId());
+            writeObject(generator, provider, FROM, message.getFrom(), USER);
+            writeInteger(generator, DATE, message.getDate());
+            writeObject(generator, provider, CHAT_FIELD, message.getChat(), CHAT);
+            writeObject(generator, provider, FORWARD_FROM, message.getForwardFrom(), USER);
+            writeInteger(generator, FORWARD_DATE, message.getForwardDate());
+            writeObject(generator, provider, REPLY_TO_MESSAGE, message.getReplyTo(), this);
+            writeString(generator, TEXT, message.getText());
+            writeObject(generator, provider, STICKER_FIELD, message.getSticker(), STICKER);
+            writeObject(generator, provider, CONTACT_FIELD, message.getContact(), CONTACT);
+            writeObject(generator, provider, LOCATION_FIELD, message.getLocation(), LOCATION);
+            writeObject(generator, provider, NEW_CHAT_PARTICIPANT, message.getNewMember(), USER);
+            writeObject(generator, provider, LEFT_CHAT_PARTICIPANT, message.getLeftMember(), USER);
+            writeString(generator, NEW_CHAT_TITLE, message.getNewTitle());
+            writeList(generator, provider, NEW_CHAT_PHOTO, message.getNewChatPhoto(), PHOTO_SIZE);
+            writeFlag(generator, DELETE_CHAT_PHOTO, message.isDeleteChatPhoto());
+            writeFlag(generator, GROUP_CHAT_CREATED, message.isGroupChatCreated());
+            writeFlag(generator, SUPERGROUP_CHAT_CREATED, message.isSupergroupChatCreated());
+            writeFlag(generator, CHANNEL_CHAT_CREATED, message.isChannelChatCreated());
+            writeInteger(generator, MIGRATE_TO_CHAT_ID, message.getMigrateTo());
+            writeInteger(generator, MIGRATE_FROM_CHAT_ID, message.getMigrateFrom());
+        }
+    }
+
+    private static final class UserSerializer extends ObjectSerializer<User> {
+
+        private static final long serialVersionUID = 8074179954746351327L;
+
+        UserSerializer () {
+            super(User.class);
+        }
+
+        @Override
+        void write (User user, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            writeInteger(generator, ID, user.getId());
+            writeString(generator, FIRST_NAME, user.getFirstName());
+            writeString(generator, LAST_NAME, user.getLastName());
+            writeString(generator, USERNAME, user.getUsername());
+        }
+    }
+
+    private static final class ChatSerializer extends ObjectSerializer<Chat> {
+
+        private static final long serialVersionUID = 6221318269307089587L;
+
+        private static final SerializableString TYPE = new SerializedString("type");
+
+        private static final SerializableString TITLE = new SerializedString("title");
+
+        ChatSerializer () {
+            super(Chat.class);
+        }
+
+        @Override
+        void write (Chat chat, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            writeInteger(generator, ID, chat.getId());
+            writeString(generator, TYPE, chat.getType());
+            writeString(generator, TITLE, chat.getTitle());
+            writeString(generator, USERNAME, chat.getUsername());
+            writeString(generator, FIRST_NAME, chat.getFirstName());
+            writeString(generator, LAST_NAME, chat.getLastName());
+        }
+    }
+
+    private static final class StickerSerializer extends ObjectSerializer<Sticker> {
+
+        private static final long serialVersionUID = 7439713320223738725L;
+
+        private static final SerializableString THUMB = new SerializedString("thumb");
+
+        StickerSerializer () {
+            super(Sticker.class);
+        }
+
+        @Override
+        void write (Sticker sticker, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            writeString(generator, FILE_ID, sticker.getId());
+            writeInteger(generator, WIDTH, sticker.getWidth());
+            writeInteger(generator, HEIGHT, sticker.getHeight());
+            writeObject(generator, provider, THUMB, sticker.getThumb(), PHOTO_SIZE);
+            writeInteger(generator, FILE_SIZE, sticker.getSize());
+        }
+    }
+
+    private static final class PhotoSizeSerializer extends ObjectSerializer<PhotoSize> {
+
+        private static final long serialVersionUID = -4957569449231009712L;
+
+        PhotoSizeSerializer () {
+            super(PhotoSize.class);
+        }
+
+        @Override
+        void write (PhotoSize photo, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            writeString(generator, FILE_ID, photo.getId());
+            writeInteger(generator, WIDTH, photo.getWidth());
+            writeInteger(generator, HEIGHT, photo.getHeight());
+            writeInteger(generator, FILE_SIZE, photo.getSize());
+        }
+    }
+
+    private static final class LocationSerializer extends ObjectSerializer<Location> {
+
+        private static final long serialVersionUID = -3721887032239764337L;
+
+        private static final SerializableString LONGITUDE = new SerializedString("longitude");
+
+        private static final SerializableString LATITUDE = new SerializedString("latitude");
+
+        LocationSerializer () {
+            super(Location.class);
+        }
+
+        @Override
+        void write (Location location, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            writeDecimal(generator, LONGITUDE, location.getLongitude());
+            writeDecimal(generator, LATITUDE, location.getLatitude());
+        }
+    }
+
+    private static final class ContactSerializer extends ObjectSerializer<Contact> {
+
+        private static final long serialVersionUID = 9023593395436642562L;
+
+        private static final SerializableString PHONE_NUMBER = new SerializedString("phone_number");
+
+        private static final SerializableString USER_ID = new SerializedString("user_id");
+
+        ContactSerializer () {
+            super(Contact.class);
+        }
+
+        @Override
+        void write (Contact contact, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            writeString(generator, PHONE_NUMBER, contact.getPhoneNumber());
+            writeString(generator, FIRST_NAME, contact.getFirstName());
+            writeString(generator, LAST_NAME, contact.getLastName());
+            writeString(generator, USER_ID, contact.getUserId());
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of a single Bot API method: call and error counts, errors by code, transferred bytes and latency histogram.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 11:59:13 PM
+ *
+ * @version 1.0.0
+ */
+public final class EndpointMetrics {
+
+    private final LongAdder calls;
+
+    private final LongAdder errors;
+
+    private final ConcurrentMap<Integer, LongAdder> errorCodes;
+
+    private final LongAdder bytesOut;
+
+    private final LongAdder bytesIn;
+
+    private final LatencyHistogram latency;
+
+    EndpointMetrics () {
+        calls = new LongAdder();
+        errors = new LongAdder();
+        errorCodes = new ConcurrentHashMap<>();
+        bytesOut = new LongAdder();
+        bytesIn = new LongAdder();
+        latency = new LatencyHistogram();
+    }
+
+    void record (int status, long nanos, long out, long in) {
+        calls.increment();
+        if (status < 200 || status >= 300) {
+            errors.increment();
+            errorCodes.computeIfAbsent(status, key -> new LongAdder()).increment();
+        }
+        bytesOut.add(out);
+        bytesIn.add(in);
+        latency.record(nanos);
+    }
+
+    /**
+     * @return the number of calls
+     */
+    public long getCalls () {
+        return calls.sum();
+    }
+
+    /**
+     * @return the number of unsuccessful calls, including I/O errors
+     */
+    public long getErrors () {
+        return errors.sum();
+    }
+
+    /**
+     * @param code Bot API's <b>error_code</b>, like 429 for flood control, or 0 for I/O errors
+     *
+     * @return the number of calls, which failed with the code
+     */
+    public long getErrors (int code) {
+        LongAdder adder = errorCodes.get(code);
+        return adder == null
+               ? 0
+               : adder.sum();
+    }
+
+    /**
+     * @return numbers of unsuccessful calls by their error codes
+     */
+    public Map<Integer, Long> getErrorCodes () {
+        Map<Integer, Long> result = new TreeMap<>();
+        errorCodes.forEach((code, adder) -> result.put(code, adder.sum()));
+        return result;
+    }
+
+    /**
+     * @return total size of request bodies
+     */
+    public long getBytesOut () {
+        return bytesOut.sum();
+    }
+
+    /**
+     * @return total size of read response bodies
+     */
+    public long getBytesIn () {
+        return bytesIn.sum();
+    }
+
+    /**
+     * @return latency histogram of calls, including unsuccessful ones
+     */
+    public LatencyHistogram getLatency () {
+        return latency;
+    }
+
+    @Override
+    public String toString () {
+        return String.format("calls=%d, errors=%s, out=%dB, in=%dB, p50=%.1fms, p99=%.1fms, max=%.1fms",
+                             getCalls(), getErrorCodes(), getBytesOut(), getBytesIn(),
+                             latency.getValueAtPercentile(50) / 1e6, latency.getValueAtPercentile(99) / 1e6,
+                             latency.getMax() / 1e6);
+    }
+}
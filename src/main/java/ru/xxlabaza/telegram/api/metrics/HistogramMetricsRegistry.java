@@ -0,0 +1,80 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A {@link MetricsRegistry}, which keeps {@link EndpointMetrics} of every Bot API method in memory:
+ * <pre>
+ * HistogramMetricsRegistry metrics = new HistogramMetricsRegistry();
+ * TelegramService service = TelegramService.builder().token("&lt;token&gt;").metrics(metrics).build();
+ * ...
+ * EndpointMetrics sendMessage = metrics.get("sendMessage");
+ * long p99 = sendMessage.getLatency().getValueAtPercentile(99);
+ * long floodControlled = sendMessage.getErrors(429);
+ * </pre>
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 11:59:36 PM
+ *
+ * @version 1.0.0
+ */
+public final class HistogramMetricsRegistry implements MetricsRegistry {
+
+    private final ConcurrentMap<String, EndpointMetrics> endpoints;
+
+    public HistogramMetricsRegistry () {
+        endpoints = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void record (String method, int status, long latency, long bytesOut, long bytesIn) {
+        EndpointMetrics metrics = endpoints.get(method);
+        if (metrics == null) {
+            metrics = endpoints.computeIfAbsent(method, key -> new EndpointMetrics());
+        }
+        metrics.record(status, latency, bytesOut, bytesIn);
+    }
+
+    /**
+     * @param method Bot API method name, like <b>sendMessage</b>
+     *
+     * @return metrics of the method, or null if it was never called
+     */
+    public EndpointMetrics get (String method) {
+        return endpoints.get(method);
+    }
+
+    /**
+     * @return metrics of all called methods by their names
+     */
+    public Map<String, EndpointMetrics> getAll () {
+        return Collections.unmodifiableMap(endpoints);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free latency histogram in the manner of HdrHistogram: values are counted in log-linear buckets, with 128
+ * sub-buckets per power of two, so any recorded value is reported with less than 1% relative error, while the whole
+ * range from 1 nanosecond to several hours fits in a fixed array. Recording is a few bit operations and one atomic
+ * increment.
+ * <p>
+ * Readings are not an atomic snapshot: values recorded concurrently with a reading may or may not be seen by it.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 11:57:40 PM
+ *
+ * @version 1.0.0
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private static final long MAX_VALUE = (1L << 44) - 1;
+
+    private final AtomicLongArray counts;
+
+    private final AtomicLong count;
+
+    private final AtomicLong sum;
+
+    private final AtomicLong max;
+
+    public LatencyHistogram () {
+        counts = new AtomicLongArray(index(MAX_VALUE) + 1);
+        count = new AtomicLong();
+        sum = new AtomicLong();
+        max = new AtomicLong();
+    }
+
+    /**
+     * @param nanos a latency in nanoseconds. Negative values are recorded as 0, values above 2^44 (about 4.9 hours)
+     *              are recorded as 2^44.
+     */
+    public void record (long nanos) {
+        long value = Math.min(Math.max(nanos, 0), MAX_VALUE);
+        counts.incrementAndGet(index(value));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * @return the number of recorded values
+     */
+    public long getCount () {
+        return count.get();
+    }
+
+    /**
+     * @return mean of recorded values in nanoseconds, or 0 if nothing is recorded
+     */
+    public double getMean () {
+        long total = count.get();
+        return total == 0
+               ? 0
+               : (double) sum.get() / total;
+    }
+
+    /**
+     * @return maximum recorded value in nanoseconds
+     */
+    public long getMax () {
+        return max.get();
+    }
+
+    /**
+     * @param percentile a percentile in range [0, 100], like 99 or 99.9
+     *
+     * @return the highest value in nanoseconds, which is equivalent to the value at the percentile, or 0 if nothing is
+     *         recorded
+     */
+    public long getValueAtPercentile (double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be in range [0, 100]");
+        }
+        long total = count.get();
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int index = 0; index < counts.length(); index++) {
+            seen += counts.get(index);
+            if (seen >= target) {
+                return Math.min(highestEquivalentValue(index), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    private static int index (long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        return (shift + 1 << SUB_BUCKET_BITS) + (int) (value >>> shift & SUB_BUCKETS - 1);
+    }
+
+    private static long highestEquivalentValue (int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long lowest = (long) (index & SUB_BUCKETS - 1 | SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
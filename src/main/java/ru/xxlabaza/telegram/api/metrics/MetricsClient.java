@@ -0,0 +1,195 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api.metrics;
+
+import feign.Client;
+import feign.Request;
+import feign.Request.Options;
+import feign.Response;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * An HTTP transport decorator, which reports every exchange to a {@link MetricsRegistry}. A call is recorded when its
+ * response body is read to the end or closed, so the latency includes receiving and decoding of the response. The
+ * method name is the last segment of the request's path.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 11:59:52 PM
+ *
+ * @version 1.0.0
+ */
+public final class MetricsClient implements Client {
+
+    private final Client delegate;
+
+    private final MetricsRegistry registry;
+
+    /**
+     * @param delegate an actual HTTP transport
+     * @param registry a sink of metrics
+     */
+    public MetricsClient (Client delegate, MetricsRegistry registry) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("delegate value is required");
+        }
+        if (registry == null) {
+            throw new IllegalArgumentException("registry value is required");
+        }
+        this.delegate = delegate;
+        this.registry = registry;
+    }
+
+    @Override
+    public Response execute (Request request, Options options) throws IOException {
+        long start = System.nanoTime();
+        String method = method(request.url());
+        long bytesOut = request.body() == null
+                        ? 0
+                        : request.body().length;
+        Response response;
+        try {
+            response = delegate.execute(request, options);
+        } catch (IOException | RuntimeException ex) {
+            registry.record(method, 0, System.nanoTime() - start, bytesOut, 0);
+            throw ex;
+        }
+        if (response.body() == null) {
+            registry.record(method, response.status(), System.nanoTime() - start, bytesOut, 0);
+            return response;
+        }
+        MeteredBody body = new MeteredBody(response.body(), method, response.status(), start, bytesOut);
+        return Response.create(response.status(), response.reason(), response.headers(), body);
+    }
+
+    private static String method (String url) {
+        int end = url.indexOf('?');
+        if (end < 0) {
+            end = url.length();
+        }
+        return url.substring(url.lastIndexOf('/', end - 1) + 1, end);
+    }
+
+    private final class MeteredBody implements Response.Body {
+
+        private final Response.Body body;
+
+        private final String method;
+
+        private final int status;
+
+        private final long start;
+
+        private final long bytesOut;
+
+        private long bytesIn;
+
+        private boolean recorded;
+
+        private InputStream stream;
+
+        MeteredBody (Response.Body body, String method, int status, long start, long bytesOut) {
+            this.body = body;
+            this.method = method;
+            this.status = status;
+            this.start = start;
+            this.bytesOut = bytesOut;
+        }
+
+        @Override
+        public Integer length () {
+            return body.length();
+        }
+
+        @Override
+        public boolean isRepeatable () {
+            return body.isRepeatable();
+        }
+
+        @Override
+        public InputStream asInputStream () throws IOException {
+            if (stream == null || body.isRepeatable()) {
+                stream = new CountingInputStream(body.asInputStream());
+            }
+            return stream;
+        }
+
+        @Override
+        public Reader asReader () throws IOException {
+            return new InputStreamReader(asInputStream(), StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void close () throws IOException {
+            try {
+                body.close();
+            } finally {
+                record();
+            }
+        }
+
+        private void record () {
+            if (!recorded) {
+                recorded = true;
+                registry.record(method, status, System.nanoTime() - start, bytesOut, bytesIn);
+            }
+        }
+
+        private final class CountingInputStream extends FilterInputStream {
+
+            CountingInputStream (InputStream input) {
+                super(input);
+            }
+
+            @Override
+            public int read () throws IOException {
+                int read = super.read();
+                count(read < 0
+                      ? -1
+                      : 1);
+                return read;
+            }
+
+            @Override
+            public int read (byte[] buffer, int offset, int length) throws IOException {
+                int read = super.read(buffer, offset, length);
+                count(read);
+                return read;
+            }
+
+            private void count (int read) {
+                if (read < 0) {
+                    record();
+                } else {
+                    bytesIn += read;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api.metrics;
+
+/**
+ * A sink of per-call metrics, which is invoked by {@link MetricsClient} once per HTTP exchange with Bot API, including
+ * every retry. Implementations must be thread safe and cheap, since they are invoked on the calling thread, and can
+ * bridge the values to any monitoring system. {@link HistogramMetricsRegistry} keeps them in memory.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 11:54:21 PM
+ *
+ * @version 1.0.0
+ */
+public interface MetricsRegistry {
+
+    /**
+     * Records a completed call.
+     *
+     * @param method   Bot API method name, like <b>sendMessage</b>
+     * @param status   HTTP status of the response, which is the same as Bot API's <b>error_code</b> of unsuccessful
+     *                 responses, or 0 if the call failed with an I/O error
+     * @param latency  nanoseconds from sending the request until the response body is read or closed
+     * @param bytesOut size of the request body
+     * @param bytesIn  number of read bytes of the response body
+     */
+    void record (String method, int status, long latency, long bytesOut, long bytesIn);
+}
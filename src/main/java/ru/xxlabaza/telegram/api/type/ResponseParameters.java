@@ -0,0 +1,58 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api.type;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.io.Serializable;
+import lombok.Data;
+
+/**
+ * Contains information about why a request was unsuccessful.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 4:41:07 PM
+ *
+ * @version 1.0.0
+ */
+@Data
+@SuppressWarnings("PMD.UnusedPrivateField")
+public class ResponseParameters implements Serializable {
+
+    private static final long serialVersionUID = 2976417520388143615L;
+
+    /**
+     * Optional. The group has been migrated to a supergroup with the specified identifier, not exceeding 1e13 by
+     * absolute value
+     */
+    @JsonProperty("migrate_to_chat_id")
+    private Long migrateTo;
+
+    /**
+     * Optional. In case of exceeding flood control, the number of seconds left to wait before the request can be
+     * repeated
+     */
+    @JsonProperty("retry_after")
+    private Integer retryAfter;
+}
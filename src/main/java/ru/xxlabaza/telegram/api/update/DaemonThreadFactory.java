@@ -0,0 +1,55 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api.update;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates daemon threads, named by a common prefix and a sequence number.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 3:02:47 PM
+ *
+ * @version 1.0.0
+ */
+class DaemonThreadFactory implements ThreadFactory {
+
+    private final String prefix;
+
+    private final AtomicInteger threadNumber;
+
+    DaemonThreadFactory (String prefix) {
+        this.prefix = prefix;
+        threadNumber = new AtomicInteger();
+    }
+
+    @Override
+    public Thread newThread (Runnable runnable) {
+        Thread thread = new Thread(runnable, prefix + threadNumber.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api.update;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An {@link OffsetStore} in a small memory-mapped file.
+ * <p>
+ * A commit is a write to the mapped slot, which costs nanoseconds and survives a crash of the process right away. To
+ * survive a crash of the machine, the slot is flushed to the disk (fsync) in batches: after the configured number of
+ * commits, or periodically in the background, so polling does not wait for the disk after every batch. Updates
+ * committed after the last flush are received again after a power loss.
+ * <p>
+ * The slot holds the offset and its complement, so a corrupted slot is detected and treated as empty.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 10:11:58 PM
+ *
+ * @version 1.0.0
+ */
+public final class MappedOffsetStore implements OffsetStore {
+
+    private static final int MAGIC = 0x54474f46;
+
+    private static final int SIZE = 16;
+
+    private static final int OFFSET_POSITION = 4;
+
+    private static final int CHECK_POSITION = 8;
+
+    private final FileChannel channel;
+
+    private final MappedByteBuffer slot;
+
+    private final int syncEvery;
+
+    private final ScheduledExecutorService syncer;
+
+    private final ReentrantLock lock;
+
+    private int unsynced;
+
+    private boolean closed;
+
+    private MappedOffsetStore (Builder builder) {
+        try {
+            channel = FileChannel.open(builder.path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                       StandardOpenOption.WRITE);
+            slot = channel.map(FileChannel.MapMode.READ_WRITE, 0, SIZE);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        syncEvery = builder.syncEvery;
+        lock = new ReentrantLock();
+        syncer = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("telegram-offset-sync-"));
+        syncer.scheduleWithFixedDelay(this::sync, builder.syncInterval, builder.syncInterval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param path a file of the store. It is created if it does not exist.
+     *
+     * @return {@link Builder} which builds store
+     */
+    public static Builder builder (Path path) {
+        return new Builder(path);
+    }
+
+    @Override
+    public Integer load () {
+        lock.lock();
+        try {
+            if (slot.getInt(0) != MAGIC) {
+                return null;
+            }
+            int offset = slot.getInt(OFFSET_POSITION);
+            return slot.getInt(CHECK_POSITION) == ~offset
+                   ? offset
+                   : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void commit (int offset) {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("offset store is closed");
+            }
+            slot.putInt(OFFSET_POSITION, offset);
+            slot.putInt(CHECK_POSITION, ~offset);
+            slot.putInt(0, MAGIC);
+            if (++unsynced >= syncEvery) {
+                force();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Flushes the last committed offset to the disk, if it is not flushed yet.
+     */
+    public void sync () {
+        lock.lock();
+        try {
+            if (unsynced > 0 && !closed) {
+                force();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close () {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            syncer.shutdown();
+            sync();
+            closed = true;
+            try {
+                channel.close();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void force () {
+        slot.force();
+        unsynced = 0;
+    }
+
+    /**
+     * A builder of {@link MappedOffsetStore} with flushing settings.
+     */
+    public static final class Builder {
+
+        private final Path path;
+
+        private int syncEvery;
+
+        private long syncInterval;
+
+        private Builder (Path path) {
+            if (path == null) {
+                throw new IllegalArgumentException("path value is required");
+            }
+            this.path = path;
+            syncEvery = 100;
+            syncInterval = TimeUnit.SECONDS.toMillis(1);
+        }
+
+        /**
+         * Optional value. Defaults to 100.
+         *
+         * @param syncEvery number of commits, after which the offset is flushed to the disk. 1 flushes every commit.
+         *
+         * @return {@link Builder} which builds store
+         */
+        public Builder syncEvery (int syncEvery) {
+            if (syncEvery < 1) {
+                throw new IllegalArgumentException("syncEvery must be positive");
+            }
+            this.syncEvery = syncEvery;
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to 1 second.
+         *
+         * @param interval maximum time, during which a committed offset may stay not flushed to the disk
+         * @param unit     interval's time unit
+         *
+         * @return {@link Builder} which builds store
+         */
+        public Builder syncInterval (long interval, TimeUnit unit) {
+            if (interval <= 0) {
+                throw new IllegalArgumentException("syncInterval must be positive");
+            }
+            syncInterval = Math.max(1, unit.toMillis(interval));
+            return this;
+        }
+
+        /**
+         * @return a new {@link MappedOffsetStore} instance
+         *
+         * @exception UncheckedIOException if the file can not be opened.
+         */
+        public MappedOffsetStore build () {
+            return new MappedOffsetStore(this);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api.update;
+
+import java.io.Closeable;
+
+/**
+ * A checkpoint of the update offset, from which polling resumes after a restart.
+ * <p>
+ * {@link UpdatePoller} commits the offset after each processed batch, so a restarted poller neither skips updates
+ * nor processes more than the batches, which were in flight at the moment of the crash.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 10:04:51 PM
+ *
+ * @version 1.0.0
+ */
+public interface OffsetStore extends Closeable {
+
+    /**
+     * @return the last committed offset, or null if nothing was committed yet
+     */
+    Integer load ();
+
+    /**
+     * Commits the offset: all updates with lower identifiers are processed.
+     *
+     * @param offset identifier of the first unprocessed update
+     */
+    void commit (int offset);
+
+    /**
+     * Releases the store's resources, persisting the last committed offset.
+     */
+    @Override
+    default void close () {
+    }
+}
@@ -0,0 +1,369 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api.update;
+
+import java.io.Closeable;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import ru.xxlabaza.telegram.api.type.Update;
+
+/**
+ * A stage which drops repeated updates and, optionally, restores their order, before passing them to a handler.
+ * <p>
+ * Seen update identifiers are tracked in a ring bitset, covering a sliding window below the highest seen identifier.
+ * An identifier, which is already marked or which is older than the window, is a duplicate. With a reorder window,
+ * updates ahead of the next expected identifier are parked in a ring until the missing ones arrive, or until they are
+ * pushed out of the reorder window, or until the missing ones are overdue by the maximum delay, or until
+ * {@link #flush()}. Neither stage allocates per update. Overdue updates are released by the next received update, or
+ * by the deduplicator's timer thread, if no update arrives.
+ * <p>
+ * The handler is invoked under the deduplicator's lock, so updates reach it one by one, in order:
+ * <pre>
+ * UpdateDeduplicator deduplicator = UpdateDeduplicator.builder(dispatcher::dispatch)
+ *         .reorderWindow(64)
+ *         .build();
+ * WebhookReceiver receiver = WebhookReceiver.builder(deduplicator).build();
+ * </pre>
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 11:08:52 PM
+ *
+ * @version 1.0.0
+ */
+public final class UpdateDeduplicator implements Consumer<Update>, Closeable {
+
+    private final Consumer<? super Update> handler;
+
+    private final long[] seen;
+
+    private final int window;
+
+    private final Update[] pending;
+
+    private final ReentrantLock lock;
+
+    private final long maxDelay;
+
+    private final ScheduledExecutorService timer;
+
+    private boolean started;
+
+    private int highest;
+
+    private int next;
+
+    private long duplicates;
+
+    private int parked;
+
+    private long parkedSince;
+
+    private UpdateDeduplicator (Builder builder) {
+        handler = builder.handler;
+        lock = new ReentrantLock();
+        window = ceilingPowerOfTwo(Math.max(builder.window, Long.SIZE));
+        seen = new long[window / Long.SIZE];
+        pending = builder.reorderWindow > 0
+                  ? new Update[ceilingPowerOfTwo(Math.min(builder.reorderWindow, window))]
+                  : null;
+        maxDelay = builder.maxDelay;
+        if (pending == null) {
+            timer = null;
+        } else {
+            timer = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("telegram-deduplicator-"));
+            long period = Math.max(maxDelay / 4, TimeUnit.MILLISECONDS.toNanos(1));
+            timer.scheduleWithFixedDelay(this::expire, period, period, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * @param handler a handler of unique updates
+     *
+     * @return {@link Builder} which builds deduplicator
+     */
+    public static Builder builder (Consumer<? super Update> handler) {
+        return new Builder(handler);
+    }
+
+    /**
+     * Passes the update to the handler, unless it is a duplicate. Updates without identifier are always passed.
+     *
+     * @param update a received update
+     */
+    @Override
+    public void accept (Update update) {
+        lock.lock();
+        try {
+            if (parked > 0) {
+                releaseOverdue();
+            }
+            Integer id = update.getId();
+            if (id == null) {
+                handler.accept(update);
+                return;
+            }
+            if (!mark(id)) {
+                duplicates++;
+                return;
+            }
+            if (pending == null || id - next < 0) {
+                // no reordering, or the update arrived after its gap was given up
+                handler.accept(update);
+                return;
+            }
+            if (id - next >= pending.length) {
+                release(id - pending.length + 1);
+            }
+            pending[id & pending.length - 1] = update;
+            if (parked++ == 0) {
+                parkedSince = System.nanoTime();
+            }
+            drain();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Passes all parked updates to the handler, in order, giving up on the missing ones.
+     */
+    public void flush () {
+        lock.lock();
+        try {
+            if (pending != null && started) {
+                release(highest + 1);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Passes all parked updates to the handler, as {@link #flush()} does, and stops the timer thread.
+     */
+    @Override
+    public void close () {
+        flush();
+        if (timer != null) {
+            timer.shutdown();
+        }
+    }
+
+    /**
+     * @return the number of dropped duplicates
+     */
+    public long getDuplicates () {
+        lock.lock();
+        try {
+            return duplicates;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void expire () {
+        lock.lock();
+        try {
+            if (parked > 0) {
+                releaseOverdue();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gives up on the missing updates, if updates have been parked for the maximum delay.
+     */
+    private void releaseOverdue () {
+        if (System.nanoTime() - parkedSince >= maxDelay) {
+            release(highest + 1);
+        }
+    }
+
+    private boolean mark (int id) {
+        if (!started) {
+            started = true;
+            highest = id;
+            next = id;
+            set(id);
+            return true;
+        }
+        int distance = id - highest;
+        if (distance > 0) {
+            if (distance >= window) {
+                Arrays.fill(seen, 0L);
+            } else {
+                for (int cleared = highest + 1; cleared != id; cleared++) {
+                    clear(cleared);
+                }
+            }
+            highest = id;
+            set(id);
+            return true;
+        }
+        if (-distance >= window || isSet(id)) {
+            return false;
+        }
+        set(id);
+        return true;
+    }
+
+    private boolean isSet (int id) {
+        int bit = id & window - 1;
+        return (seen[bit >>> 6] & 1L << bit) != 0;
+    }
+
+    private void set (int id) {
+        int bit = id & window - 1;
+        seen[bit >>> 6] |= 1L << bit;
+    }
+
+    private void clear (int id) {
+        int bit = id & window - 1;
+        seen[bit >>> 6] &= ~(1L << bit);
+    }
+
+    /**
+     * Passes parked updates below the identifier to the handler and moves the next expected identifier to it.
+     */
+    private void release (int until) {
+        int end = until - next > pending.length
+                  ? next + pending.length
+                  : until;
+        while (next != end) {
+            int slot = next & pending.length - 1;
+            Update update = pending[slot];
+            pending[slot] = null;
+            next++;
+            if (update != null) {
+                parked--;
+                handler.accept(update);
+            }
+        }
+        next = until;
+        drain();
+    }
+
+    private void drain () {
+        int slot = next & pending.length - 1;
+        while (pending[slot] != null) {
+            Update update = pending[slot];
+            pending[slot] = null;
+            next++;
+            slot = next & pending.length - 1;
+            parked--;
+            handler.accept(update);
+        }
+    }
+
+    private static int ceilingPowerOfTwo (int value) {
+        return value <= 1
+               ? 1
+               : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    /**
+     * A builder of {@link UpdateDeduplicator} with window sizes.
+     */
+    public static final class Builder {
+
+        private final Consumer<? super Update> handler;
+
+        private int window;
+
+        private int reorderWindow;
+
+        private long maxDelay;
+
+        private Builder (Consumer<? super Update> handler) {
+            if (handler == null) {
+                throw new IllegalArgumentException("handler value is required");
+            }
+            this.handler = handler;
+            window = 4096;
+            maxDelay = TimeUnit.SECONDS.toNanos(1);
+        }
+
+        /**
+         * Optional value. Defaults to 4096. Rounded up to a power of two.
+         *
+         * @param window number of identifiers below the highest seen one, which are remembered. Older updates are
+         *               dropped as duplicates.
+         *
+         * @return {@link Builder} which builds deduplicator
+         */
+        public Builder window (int window) {
+            if (window <= 0 || window > 1 << 30) {
+                throw new IllegalArgumentException("window must be in range [1, 2^30]");
+            }
+            this.window = window;
+            return this;
+        }
+
+        /**
+         * Optional value. By default, updates are not reordered. Rounded up to a power of two, at most the window.
+         *
+         * @param reorderWindow maximum number of identifiers, which updates can be parked ahead of a missing one
+         *
+         * @return {@link Builder} which builds deduplicator
+         */
+        public Builder reorderWindow (int reorderWindow) {
+            if (reorderWindow < 0 || reorderWindow > 1 << 30) {
+                throw new IllegalArgumentException("reorderWindow must be in range [0, 2^30]");
+            }
+            this.reorderWindow = reorderWindow;
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to 1 second.
+         *
+         * @param delay maximum time updates are parked, waiting for a missing one. Then the missing updates are given
+         *              up on, and the parked ones are passed to the handler.
+         * @param unit  delay's time unit
+         *
+         * @return {@link Builder} which builds deduplicator
+         */
+        public Builder maxDelay (long delay, TimeUnit unit) {
+            if (delay <= 0) {
+                throw new IllegalArgumentException("delay must be positive");
+            }
+            maxDelay = unit.toNanos(delay);
+            return this;
+        }
+
+        /**
+         * @return a new {@link UpdateDeduplicator} instance
+         */
+        public UpdateDeduplicator build () {
+            return new UpdateDeduplicator(this);
+        }
+    }
+}
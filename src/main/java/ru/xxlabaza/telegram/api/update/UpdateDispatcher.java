@@ -0,0 +1,390 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api.update;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import ru.xxlabaza.telegram.api.VirtualThreads;
+import ru.xxlabaza.telegram.api.jfr.JfrEvents;
+import ru.xxlabaza.telegram.api.type.Message;
+import ru.xxlabaza.telegram.api.type.Update;
+
+/**
+ * A dispatcher of updates, which handles updates of the same chat strictly in order and updates of different chats in
+ * parallel.
+ * <p>
+ * Updates are sharded by chat identifier onto a fixed set of lanes. Each lane is a single thread with a bounded queue,
+ * so per-chat conversation state is never touched concurrently, while different chats are spread over all lanes.
+ * Updates without a chat are sharded by their own identifier. When a lane's queue is full, dispatching blocks, which
+ * slows down the source of updates.
+ * <p>
+ * The dispatcher is a handler of update batches, so it can be plugged into {@link UpdatePoller} directly. The poller
+ * then treats a batch as processed once all its updates are handled, not once they are dispatched:
+ * <pre>
+ * UpdateDispatcher dispatcher = UpdateDispatcher.builder(update -&gt; ...).build();
+ * UpdatePoller poller = UpdatePoller.builder(service, dispatcher).build();
+ * </pre>
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 3:31:40 PM
+ *
+ * @version 1.0.0
+ */
+public final class UpdateDispatcher implements Consumer<List<Update>>, Closeable {
+
+    private static final Logger LOGGER = Logger.getLogger(UpdateDispatcher.class.getName());
+
+    private static final Update STOP = new Update();
+
+    private final Consumer<Update> handler;
+
+    private final Lane[] lanes;
+
+    // dispatching holds the read lock, so closing can not slip in between the check and the put
+    private final ReentrantReadWriteLock closeLock;
+
+    private boolean closed;
+
+    private UpdateDispatcher (Builder builder) {
+        handler = builder.handler;
+        closeLock = new ReentrantReadWriteLock();
+        lanes = new Lane[builder.lanes];
+        ThreadFactory threadFactory = builder.virtualThreads
+                                      ? VirtualThreads.factory("telegram-dispatcher-")
+                                      : new DaemonThreadFactory("telegram-dispatcher-");
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new Lane(builder.laneCapacity);
+            threadFactory.newThread(lanes[i]).start();
+        }
+    }
+
+    /**
+     * @param handler a handler of single updates
+     *
+     * @return {@link Builder} which builds dispatcher
+     */
+    public static Builder builder (Consumer<Update> handler) {
+        return new Builder(handler);
+    }
+
+    /**
+     * Dispatches a batch of updates, keeping their order within each chat.
+     *
+     * @param updates updates to dispatch
+     */
+    @Override
+    public void accept (List<Update> updates) {
+        for (Update update : updates) {
+            dispatch(update);
+        }
+    }
+
+    /**
+     * Dispatches a batch of updates, keeping their order within each chat, and tracks their handling. Updates, whose
+     * handler fails, count as handled, as the failure is only logged.
+     *
+     * @param updates updates to dispatch
+     *
+     * @return a future, which completes once all the updates are handled
+     *
+     * @exception IllegalStateException if the dispatcher is closed.
+     */
+    public CompletableFuture<Void> dispatchAll (List<Update> updates) {
+        Completion completion = new Completion(updates.size());
+        for (Update update : updates) {
+            dispatch(update, completion);
+        }
+        return completion.future;
+    }
+
+    /**
+     * Puts an update into its chat's lane. Blocks while the lane's queue is full.
+     *
+     * @param update an update to dispatch
+     *
+     * @exception IllegalStateException if the dispatcher is closed.
+     */
+    public void dispatch (Update update) {
+        dispatch(update, null);
+    }
+
+    /**
+     * Stops accepting new updates. Already dispatched updates are still handled. Blocks while a lane's queue is full.
+     */
+    @Override
+    public void close () {
+        closeLock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            for (Lane lane : lanes) {
+                lane.queue.put(STOP);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Waits until all dispatched updates are handled, after {@link #close()}.
+     *
+     * @param timeout maximum time to wait
+     * @param unit    timeout's time unit
+     *
+     * @return true if all lanes are stopped, false if the timeout elapsed
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitTermination (long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (Lane lane : lanes) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || !lane.stopped.await(remaining, TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void dispatch (Update update, Completion completion) {
+        Lane lane = lanes[Math.floorMod(spread(key(update)), lanes.length)];
+        long queuedAt = JfrEvents.isUpdateEnabled()
+                        ? System.nanoTime()
+                        : 0;
+        Object element = completion != null || queuedAt != 0
+                         ? new Queued(update, queuedAt, completion)
+                         : update;
+        closeLock.readLock().lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("dispatcher is closed");
+            }
+            lane.queue.put(element);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while dispatching update", ex);
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    private static int key (Update update) {
+        Message message = update.getMessage();
+        if (message != null && message.getChat() != null && message.getChat().getId() != null) {
+            return message.getChat().getId();
+        }
+        return update.getId() == null
+               ? 0
+               : update.getId();
+    }
+
+    private static int spread (int key) {
+        int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private final class Lane implements Runnable {
+
+        private final BlockingQueue<Object> queue;
+
+        private final CountDownLatch stopped;
+
+        Lane (int capacity) {
+            queue = new ArrayBlockingQueue<>(capacity);
+            stopped = new CountDownLatch(1);
+        }
+
+        @Override
+        public void run () {
+            try {
+                while (true) {
+                    Object element = queue.take();
+                    if (element == STOP) {
+                        return;
+                    }
+                    Update update;
+                    long queuedAt;
+                    Completion completion;
+                    if (element instanceof Queued) {
+                        update = ((Queued) element).update;
+                        queuedAt = ((Queued) element).queuedAt;
+                        completion = ((Queued) element).completion;
+                    } else {
+                        update = (Update) element;
+                        queuedAt = 0;
+                        completion = null;
+                    }
+                    boolean began = JfrEvents.updateStarted(queuedAt);
+                    try {
+                        handler.accept(update);
+                    } catch (RuntimeException ex) {
+                        LOGGER.log(Level.SEVERE, "update handler failed", ex);
+                    } finally {
+                        JfrEvents.updateFinished(began, "dispatcher", update);
+                        if (completion != null) {
+                            completion.handled();
+                        }
+                    }
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } finally {
+                stopped.countDown();
+            }
+        }
+    }
+
+    /**
+     * An update with its enqueue time, which is captured only while flight recorder events of updates are enabled,
+     * and the completion of its batch, if it is tracked.
+     */
+    private static final class Queued {
+
+        private final Update update;
+
+        private final long queuedAt;
+
+        private final Completion completion;
+
+        Queued (Update update, long queuedAt, Completion completion) {
+            this.update = update;
+            this.queuedAt = queuedAt;
+            this.completion = completion;
+        }
+    }
+
+    /**
+     * A countdown of a batch's updates, which are not handled yet.
+     */
+    private static final class Completion {
+
+        private final AtomicInteger remaining;
+
+        private final CompletableFuture<Void> future;
+
+        Completion (int size) {
+            remaining = new AtomicInteger(size);
+            future = new CompletableFuture<>();
+            if (size == 0) {
+                future.complete(null);
+            }
+        }
+
+        void handled () {
+            if (remaining.decrementAndGet() == 0) {
+                future.complete(null);
+            }
+        }
+    }
+
+    /**
+     * A builder of {@link UpdateDispatcher} with lanes settings.
+     */
+    public static final class Builder {
+
+        private final Consumer<Update> handler;
+
+        private int lanes;
+
+        private int laneCapacity;
+
+        private boolean virtualThreads;
+
+        private Builder (Consumer<Update> handler) {
+            if (handler == null) {
+                throw new IllegalArgumentException("handler value is required");
+            }
+            this.handler = handler;
+            lanes = Runtime.getRuntime().availableProcessors();
+            laneCapacity = 1024;
+        }
+
+        /**
+         * Optional value. Defaults to the number of available processors.
+         *
+         * @param lanes number of lanes, i.e. of handler threads
+         *
+         * @return {@link Builder} which builds dispatcher
+         */
+        public Builder lanes (int lanes) {
+            if (lanes < 1) {
+                throw new IllegalArgumentException("lanes must be positive");
+            }
+            this.lanes = lanes;
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to 1024.
+         *
+         * @param laneCapacity maximum number of updates waiting in a single lane
+         *
+         * @return {@link Builder} which builds dispatcher
+         */
+        public Builder laneCapacity (int laneCapacity) {
+            if (laneCapacity < 1) {
+                throw new IllegalArgumentException("laneCapacity must be positive");
+            }
+            this.laneCapacity = laneCapacity;
+            return this;
+        }
+
+        /**
+         * Optional value. Disabled by default. Requires Java 21 or later, otherwise platform threads are
+         * used, see {@link VirtualThreads#isSupported()}.
+         *
+         * @param virtualThreads whether lanes are virtual threads. They are cheap, so there can be thousands of lanes,
+         *                       and handlers, which block on I/O, don't hold platform threads.
+         *
+         * @return {@link Builder} which builds dispatcher
+         */
+        public Builder virtualThreads (boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+            return this;
+        }
+
+        /**
+         * @return a new {@link UpdateDispatcher} instance
+         */
+        public UpdateDispatcher build () {
+            return new UpdateDispatcher(this);
+        }
+    }
+}
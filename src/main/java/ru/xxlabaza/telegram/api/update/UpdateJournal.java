@@ -0,0 +1,593 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api.update;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import ru.xxlabaza.telegram.api.ObjectMappers;
+import ru.xxlabaza.telegram.api.type.Message;
+import ru.xxlabaza.telegram.api.type.Update;
+
+/**
+ * An append-only journal of received updates, stored in segmented memory-mapped files, for replaying them later -
+ * for example to reprocess days of traffic with a new handler version, regardless of Bot API's retention window.
+ * <p>
+ * The journal is a handler of updates, which can be chained with the actual one, both for polling and webhooks:
+ * <pre>
+ * UpdateJournal journal = UpdateJournal.builder(Paths.get("journal")).build();
+ * WebhookReceiver receiver = WebhookReceiver.builder(journal.andThen(dispatcher::dispatch)).build();
+ * ...
+ * journal.replay(newHandler);
+ * journal.replayChat(chatId, newHandler);
+ * </pre>
+ * Each record holds the update's identifier, its chat, the update as JSON and a CRC-32 checksum of them. The record's
+ * length is written last, so a crash of the process never leaves a torn record behind. On a power loss, the operating
+ * system may have persisted a record's pages only partly; opening the journal verifies the checksums and drops such a
+ * record with everything after it in its segment. Records, which were not flushed, may be lost on a power loss. Indexes
+ * by update identifier and by chat are kept in memory and rebuilt from the segments when the journal is opened.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 10:42:16 PM
+ *
+ * @version 1.0.0
+ */
+public final class UpdateJournal implements Consumer<Update>, Closeable {
+
+    /**
+     * Record's header: payload length, checksum, update identifier and chat identifier.
+     */
+    private static final int HEADER = 20;
+
+    private static final int CHECKSUM = 4;
+
+    private static final int ID = 8;
+
+    private static final int CHAT = 12;
+
+    private static final long NO_CHAT = Long.MIN_VALUE;
+
+    private static final String SUFFIX = ".journal";
+
+    private final Path directory;
+
+    private final int segmentSize;
+
+    private final int maxSegments;
+
+    private final ObjectMapper mapper;
+
+    private final List<Segment> segments;
+
+    private final Map<Long, Positions> chats;
+
+    private final ReentrantLock lock;
+
+    private boolean closed;
+
+    private UpdateJournal (Builder builder) {
+        directory = builder.directory;
+        segmentSize = builder.segmentSize;
+        maxSegments = builder.maxSegments;
+        mapper = builder.mapper;
+        segments = new ArrayList<>();
+        chats = new HashMap<>();
+        lock = new ReentrantLock();
+        try {
+            Files.createDirectories(directory);
+            List<Path> files = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+                stream.forEach(files::add);
+            }
+            files.sort(null);
+            // the limit could have been lowered, or the journal closed before a roll trimmed it
+            while (maxSegments > 0 && files.size() > maxSegments) {
+                Files.delete(files.remove(0));
+            }
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                Segment segment = new Segment(Long.parseLong(name.substring(0, name.length() - SUFFIX.length())),
+                                              file, (int) Files.size(file));
+                segments.add(segment);
+                segment.recover(this);
+            }
+            if (segments.isEmpty()) {
+                segments.add(createSegment(0));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * @param directory a directory of the journal's segments. It is created if it does not exist.
+     *
+     * @return {@link Builder} which builds journal
+     */
+    public static Builder builder (Path directory) {
+        return new Builder(directory);
+    }
+
+    /**
+     * Appends the update to the journal.
+     *
+     * @param update a received update
+     */
+    @Override
+    public void accept (Update update) {
+        append(update);
+    }
+
+    /**
+     * Appends the update to the journal.
+     *
+     * @param update a received update
+     *
+     * @exception IllegalArgumentException if the update does not fit into a segment.
+     */
+    public void append (Update update) {
+        byte[] payload;
+        try {
+            payload = mapper.writeValueAsBytes(update);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        if (HEADER + payload.length > segmentSize) {
+            throw new IllegalArgumentException("update " + update.getId() + " does not fit into a segment");
+        }
+        int id = update.getId() == null
+                 ? 0
+                 : update.getId();
+        Message message = update.getMessage();
+        long chat = message == null || message.getChat() == null || message.getChat().getId() == null
+                    ? NO_CHAT
+                    : message.getChat().getId();
+
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("journal is closed");
+            }
+            Segment segment = segments.get(segments.size() - 1);
+            if (segment.limit + HEADER + payload.length > segment.buffer.capacity()) {
+                segment.buffer.force();
+                segment = roll(segment.index + 1);
+            }
+            int offset = segment.limit;
+            ByteBuffer buffer = segment.buffer.duplicate();
+            buffer.position(offset + ID);
+            buffer.putInt(id).putLong(chat).put(payload);
+            segment.buffer.putInt(offset + CHECKSUM, checksum(segment.buffer, offset, payload.length));
+            // the length is written last, it marks the record as complete
+            segment.buffer.putInt(offset, payload.length);
+            index(segment, offset, id, chat);
+            segment.limit = offset + HEADER + payload.length;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Finds a recorded update. If an update was recorded several times, the first record is returned.
+     *
+     * @param updateId the update's identifier
+     *
+     * @return the update, or null if it is not recorded
+     */
+    public Update find (int updateId) {
+        Segment segment = null;
+        int offset = -1;
+        lock.lock();
+        try {
+            for (Segment candidate : segments) {
+                offset = candidate.find(updateId);
+                if (offset >= 0) {
+                    segment = candidate;
+                    break;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return segment == null
+               ? null
+               : read(segment, offset);
+    }
+
+    /**
+     * Feeds all recorded updates to the handler, in the order they were recorded.
+     *
+     * @param handler a handler of recorded updates
+     *
+     * @return the number of replayed updates
+     */
+    public long replay (Consumer<? super Update> handler) {
+        return replay(Integer.MIN_VALUE, handler);
+    }
+
+    /**
+     * Feeds recorded updates with identifiers greater than or equal to the given one to the handler, in the order they
+     * were recorded.
+     *
+     * @param fromUpdateId identifier of the first update to replay
+     * @param handler      a handler of recorded updates
+     *
+     * @return the number of replayed updates
+     */
+    public long replay (int fromUpdateId, Consumer<? super Update> handler) {
+        long count = 0;
+        for (Segment segment : snapshot()) {
+            if (segment.count > 0 && segment.maxId < fromUpdateId) {
+                continue;
+            }
+            int limit = segment.limit;
+            for (int offset = 0; offset < limit; offset += HEADER + segment.buffer.getInt(offset)) {
+                if (segment.buffer.getInt(offset + ID) >= fromUpdateId) {
+                    handler.accept(read(segment, offset));
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Feeds recorded updates of a chat to the handler, in the order they were recorded.
+     *
+     * @param chat    the chat's identifier
+     * @param handler a handler of recorded updates
+     *
+     * @return the number of replayed updates
+     */
+    public long replayChat (long chat, Consumer<? super Update> handler) {
+        long[] positions;
+        List<Segment> snapshot;
+        lock.lock();
+        try {
+            Positions chatPositions = chats.get(chat);
+            if (chatPositions == null) {
+                return 0;
+            }
+            positions = Arrays.copyOf(chatPositions.values, chatPositions.size);
+            snapshot = new ArrayList<>(segments);
+        } finally {
+            lock.unlock();
+        }
+
+        long count = 0;
+        int segmentNumber = 0;
+        for (long position : positions) {
+            long index = position >>> Integer.SIZE;
+            while (segmentNumber < snapshot.size() && snapshot.get(segmentNumber).index < index) {
+                segmentNumber++;
+            }
+            if (segmentNumber == snapshot.size()) {
+                break;
+            }
+            Segment segment = snapshot.get(segmentNumber);
+            if (segment.index == index) {
+                handler.accept(read(segment, (int) position));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Flushes all recorded updates to the disk.
+     */
+    public void flush () {
+        lock.lock();
+        try {
+            segments.get(segments.size() - 1).buffer.force();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close () {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            flush();
+            closed = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<Segment> snapshot () {
+        lock.lock();
+        try {
+            return new ArrayList<>(segments);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Update read (Segment segment, int offset) {
+        ByteBuffer payload = segment.buffer.duplicate();
+        payload.limit(offset + HEADER + segment.buffer.getInt(offset));
+        payload.position(offset + HEADER);
+        try {
+            return mapper.readValue(new ByteBufferBackedInputStream(payload), Update.class);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * @return CRC-32 of the record's identifiers and payload
+     */
+    private static int checksum (ByteBuffer buffer, int offset, int length) {
+        ByteBuffer record = buffer.duplicate();
+        record.limit(offset + HEADER + length);
+        record.position(offset + ID);
+        CRC32 crc = new CRC32();
+        crc.update(record);
+        return (int) crc.getValue();
+    }
+
+    private void index (Segment segment, int offset, int id, long chat) {
+        segment.add(id, offset);
+        if (chat != NO_CHAT) {
+            chats.computeIfAbsent(chat, key -> new Positions()).add(segment.index << Integer.SIZE | offset);
+        }
+    }
+
+    private Segment roll (long index) {
+        Segment segment;
+        try {
+            segment = createSegment(index);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        segments.add(segment);
+        if (maxSegments > 0 && segments.size() > maxSegments) {
+            Segment oldest = segments.remove(0);
+            try {
+                Files.deleteIfExists(oldest.path);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            // positions of the oldest segment's updates are skipped by replays and dropped here
+            long first = segments.get(0).index << Integer.SIZE;
+            chats.values().removeIf(positions -> positions.removeBefore(first));
+        }
+        return segment;
+    }
+
+    private Segment createSegment (long index) throws IOException {
+        return new Segment(index, directory.resolve(String.format("%020d%s", index, SUFFIX)), segmentSize);
+    }
+
+    private static final class Segment {
+
+        private final long index;
+
+        private final Path path;
+
+        private final MappedByteBuffer buffer;
+
+        private volatile int limit;
+
+        private int[] ids;
+
+        private int[] offsets;
+
+        private int count;
+
+        private boolean sorted;
+
+        private int maxId;
+
+        Segment (long index, Path path, int size) throws IOException {
+            this.index = index;
+            this.path = path;
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                                        StandardOpenOption.WRITE)) {
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            }
+            ids = new int[1024];
+            offsets = new int[1024];
+            sorted = true;
+            maxId = Integer.MIN_VALUE;
+        }
+
+        void recover (UpdateJournal journal) {
+            int offset = 0;
+            while (offset + HEADER <= buffer.capacity()) {
+                int length = buffer.getInt(offset);
+                if (length == 0) {
+                    break;
+                }
+                if (length < 0 || length > buffer.capacity() - offset - HEADER
+                    || buffer.getInt(offset + CHECKSUM) != checksum(buffer, offset, length)) {
+                    // a torn record; the rest is zeroed, so it is not mistaken for records after new appends
+                    for (int position = offset; position < buffer.capacity(); position++) {
+                        buffer.put(position, (byte) 0);
+                    }
+                    break;
+                }
+                journal.index(this, offset, buffer.getInt(offset + ID), buffer.getLong(offset + CHAT));
+                offset += HEADER + length;
+            }
+            limit = offset;
+        }
+
+        void add (int id, int offset) {
+            if (count == ids.length) {
+                ids = Arrays.copyOf(ids, count * 2);
+                offsets = Arrays.copyOf(offsets, count * 2);
+            }
+            sorted &= count == 0 || ids[count - 1] < id;
+            ids[count] = id;
+            offsets[count] = offset;
+            count++;
+            maxId = Math.max(maxId, id);
+        }
+
+        int find (int id) {
+            if (count == 0 || id > maxId) {
+                return -1;
+            }
+            if (sorted) {
+                int found = Arrays.binarySearch(ids, 0, count, id);
+                return found < 0
+                       ? -1
+                       : offsets[found];
+            }
+            for (int i = 0; i < count; i++) {
+                if (ids[i] == id) {
+                    return offsets[i];
+                }
+            }
+            return -1;
+        }
+    }
+
+    private static final class Positions {
+
+        private long[] values;
+
+        private int size;
+
+        Positions () {
+            values = new long[8];
+        }
+
+        void add (long position) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = position;
+        }
+
+        /**
+         * @return true if no positions are left
+         */
+        boolean removeBefore (long first) {
+            int removed = 0;
+            while (removed < size && values[removed] < first) {
+                removed++;
+            }
+            System.arraycopy(values, removed, values, 0, size - removed);
+            size -= removed;
+            return size == 0;
+        }
+    }
+
+    /**
+     * A builder of {@link UpdateJournal} with storage settings.
+     */
+    public static final class Builder {
+
+        private final Path directory;
+
+        private int segmentSize;
+
+        private int maxSegments;
+
+        private ObjectMapper mapper;
+
+        private Builder (Path directory) {
+            if (directory == null) {
+                throw new IllegalArgumentException("directory value is required");
+            }
+            this.directory = directory;
+            segmentSize = 64 * 1024 * 1024;
+            mapper = ObjectMappers.shared();
+        }
+
+        /**
+         * Optional value. Defaults to 64 MiB.
+         *
+         * @param segmentSize size of a segment file in bytes
+         *
+         * @return {@link Builder} which builds journal
+         */
+        public Builder segmentSize (int segmentSize) {
+            if (segmentSize < 4096) {
+                throw new IllegalArgumentException("segmentSize must be at least 4096");
+            }
+            this.segmentSize = segmentSize;
+            return this;
+        }
+
+        /**
+         * Optional value. By default, all segments are kept.
+         *
+         * @param maxSegments maximum number of kept segments. When it is exceeded, the oldest segment is deleted, on a
+         *                    roll to a new segment and when the journal is opened.
+         *
+         * @return {@link Builder} which builds journal
+         */
+        public Builder maxSegments (int maxSegments) {
+            this.maxSegments = maxSegments;
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to {@link ObjectMappers#shared()}.
+         *
+         * @param mapper a mapper for recorded updates
+         *
+         * @return {@link Builder} which builds journal
+         */
+        public Builder mapper (ObjectMapper mapper) {
+            this.mapper = mapper;
+            return this;
+        }
+
+        /**
+         * @return a new {@link UpdateJournal} instance
+         *
+         * @exception UncheckedIOException if the segments can not be opened.
+         */
+        public UpdateJournal build () {
+            return new UpdateJournal(this);
+        }
+    }
+}
@@ -0,0 +1,542 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api.update;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import ru.xxlabaza.telegram.api.TelegramService;
+import ru.xxlabaza.telegram.api.VirtualThreads;
+import ru.xxlabaza.telegram.api.type.Update;
+
+/**
+ * A long polling engine for incoming updates.
+ * <p>
+ * The poller calls getUpdates in a loop on its own thread and tracks the offset automatically, advancing it to the
+ * highest received update identifier plus one. Received batches are handed to the handler on a separate executor, so
+ * the next poll is already in flight while the previous batch is processed:
+ * <pre>
+ * UpdatePoller poller = UpdatePoller.builder(service, updates -&gt; ...)
+ *         .timeout(30)
+ *         .build();
+ * poller.start();
+ * </pre>
+ * Note that the next poll confirms the previous batch on the server side, before it is processed. The service's read
+ * timeout must be greater than the polling timeout.
+ * <p>
+ * For crash-safe polling, processed offsets are committed to an {@link OffsetStore}, from which polling resumes after
+ * a restart, and pipelining is disabled, so no batch is confirmed before it is processed. Batches, which are processed
+ * concurrently, are committed in the order they were received, so a committed offset never passes a batch in
+ * progress:
+ * <pre>
+ * UpdatePoller poller = UpdatePoller.builder(service, updates -&gt; ...)
+ *         .offsetStore(MappedOffsetStore.builder(Paths.get("bot.offset")).build())
+ *         .pipelining(false)
+ *         .build();
+ * </pre>
+ * A failure of the handler stops the poller. The failed batch is not committed, and without pipelining it is not
+ * confirmed on the server side either, so a restarted poller receives it again. Handlers, which can skip a failed
+ * batch, catch their own exceptions.
+ * <p>
+ * With an {@link UpdateDispatcher}, a batch is processed once the dispatcher has handled all its updates, so offsets
+ * are not committed, nor confirmed without pipelining, while its updates wait in the dispatcher's lanes.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 3:05:12 PM
+ *
+ * @version 1.0.0
+ */
+public final class UpdatePoller implements Closeable {
+
+    private static final Logger LOGGER = Logger.getLogger(UpdatePoller.class.getName());
+
+    private static final CompletableFuture<Void> PROCESSED = CompletableFuture.completedFuture(null);
+
+    private final TelegramService service;
+
+    // returns completion of the batch's processing
+    private final Function<List<Update>, CompletableFuture<Void>> handler;
+
+    private final int timeout;
+
+    private final int limit;
+
+    private final long errorDelay;
+
+    private final Executor executor;
+
+    private final ExecutorService ownExecutor;
+
+    private final int maxPendingBatches;
+
+    private final Semaphore pendingBatches;
+
+    private final boolean pipelining;
+
+    private final OffsetStore offsetStore;
+
+    private final ReentrantLock commitLock;
+
+    // received batches, which are not committed yet, in order of receipt; guarded by commitLock
+    private final ArrayDeque<Batch> batches;
+
+    private int committed;
+
+    private final Thread thread;
+
+    private volatile boolean running;
+
+    private volatile Integer offset;
+
+    private UpdatePoller (Builder builder) {
+        service = builder.service;
+        handler = builder.handler;
+        timeout = builder.timeout;
+        limit = builder.limit;
+        errorDelay = builder.errorDelay;
+        offsetStore = builder.offsetStore;
+        offset = builder.offset == null && offsetStore != null
+                 ? offsetStore.load()
+                 : builder.offset;
+        commitLock = new ReentrantLock();
+        batches = new ArrayDeque<>();
+        committed = offset == null
+                    ? Integer.MIN_VALUE
+                    : offset;
+        maxPendingBatches = builder.maxPendingBatches;
+        pendingBatches = new Semaphore(maxPendingBatches);
+        pipelining = builder.pipelining;
+
+        if (builder.executor == null) {
+            ownExecutor = Executors.newSingleThreadExecutor(builder.virtualThreads
+                                                            ? VirtualThreads.factory("telegram-updates-")
+                                                            : new DaemonThreadFactory("telegram-updates-"));
+            executor = ownExecutor;
+        } else {
+            ownExecutor = null;
+            executor = builder.executor;
+        }
+        thread = (builder.virtualThreads
+                  ? VirtualThreads.factory("telegram-poller-")
+                  : new DaemonThreadFactory("telegram-poller-")).newThread(this::poll);
+    }
+
+    /**
+     * @param service a service for calling getUpdates
+     * @param handler a handler of received batches of updates
+     *
+     * @return {@link Builder} which builds poller
+     */
+    public static Builder builder (TelegramService service, Consumer<List<Update>> handler) {
+        return new Builder(service, handler == null
+                                    ? null
+                                    : synchronous(handler));
+    }
+
+    /**
+     * A batch counts as processed, and its offset is committed, once the dispatcher has handled all its updates. To
+     * keep the dispatcher's lanes busy while a batch is handled, allow more pending batches.
+     *
+     * @param service    a service for calling getUpdates
+     * @param dispatcher a dispatcher of received updates
+     *
+     * @return {@link Builder} which builds poller
+     */
+    public static Builder builder (TelegramService service, UpdateDispatcher dispatcher) {
+        return new Builder(service, dispatcher == null
+                                    ? null
+                                    : dispatcher::dispatchAll);
+    }
+
+    /**
+     * Starts polling.
+     *
+     * @exception IllegalStateException if the poller was already started.
+     */
+    public synchronized void start () {
+        if (thread.getState() != Thread.State.NEW) {
+            throw new IllegalStateException("poller can be started only once");
+        }
+        running = true;
+        thread.start();
+    }
+
+    /**
+     * Stops polling. The current poll is abandoned, already received batches are still processed. The offset store,
+     * if any, is not closed.
+     */
+    @Override
+    public void close () {
+        running = false;
+        thread.interrupt();
+        if (ownExecutor != null) {
+            ownExecutor.shutdown();
+        }
+    }
+
+    /**
+     * @return identifier of the first update to be requested by the next poll, or null if no updates were received yet
+     */
+    public Integer getOffset () {
+        return offset;
+    }
+
+    private void poll () {
+        while (running) {
+            if (!pipelining && (!awaitPendingBatches() || !running)) {
+                return;
+            }
+            List<Update> updates;
+            try {
+                updates = service.getUpdates()
+                        .offset(offset)
+                        .limit(limit)
+                        .timeout(timeout)
+                        .call();
+            } catch (RuntimeException ex) {
+                if (!running) {
+                    return;
+                }
+                LOGGER.log(Level.WARNING, "getUpdates call failed", ex);
+                if (!sleep(errorDelay)) {
+                    return;
+                }
+                continue;
+            }
+            if (updates == null || updates.isEmpty()) {
+                continue;
+            }
+            Batch batch = new Batch(nextOffset(updates));
+            offset = batch.next;
+
+            try {
+                pendingBatches.acquire();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            received(batch);
+            try {
+                executor.execute(() -> handle(updates, batch));
+            } catch (RejectedExecutionException ex) {
+                pendingBatches.release();
+                if (running) {
+                    LOGGER.log(Level.SEVERE, "updates executor rejected a batch, polling is stopped", ex);
+                    running = false;
+                }
+                return;
+            }
+        }
+    }
+
+    private boolean awaitPendingBatches () {
+        try {
+            pendingBatches.acquire(maxPendingBatches);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        pendingBatches.release(maxPendingBatches);
+        return true;
+    }
+
+    private void handle (List<Update> updates, Batch batch) {
+        CompletableFuture<Void> processed;
+        try {
+            processed = handler.apply(updates);
+        } catch (RuntimeException ex) {
+            failed(ex);
+            pendingBatches.release();
+            return;
+        }
+        processed.whenComplete((result, failure) -> {
+            try {
+                if (failure == null) {
+                    handled(batch);
+                } else {
+                    failed(failure);
+                }
+            } catch (RuntimeException ex) {
+                failed(ex);
+            } finally {
+                pendingBatches.release();
+            }
+        });
+    }
+
+    // a batch is processed once the handler returns
+    private static Function<List<Update>, CompletableFuture<Void>> synchronous (Consumer<List<Update>> handler) {
+        return updates -> {
+            handler.accept(updates);
+            return PROCESSED;
+        };
+    }
+
+    private void failed (Throwable ex) {
+        LOGGER.log(Level.SEVERE, "updates handler failed, polling is stopped", ex);
+        close();
+    }
+
+    private void received (Batch batch) {
+        commitLock.lock();
+        try {
+            batches.addLast(batch);
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    private void handled (Batch batch) {
+        commitLock.lock();
+        try {
+            batch.handled = true;
+            // the offset moves over handled batches only up to the earliest batch in progress or failed
+            int next = committed;
+            while (!batches.isEmpty() && batches.peekFirst().handled) {
+                next = batches.pollFirst().next;
+            }
+            if (offsetStore != null && next > committed) {
+                offsetStore.commit(next);
+                committed = next;
+            }
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    private int nextOffset (List<Update> updates) {
+        int max = offset == null
+                  ? Integer.MIN_VALUE
+                  : offset - 1;
+        for (Update update : updates) {
+            if (update.getId() != null && update.getId() > max) {
+                max = update.getId();
+            }
+        }
+        return max + 1;
+    }
+
+    private boolean sleep (long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static final class Batch {
+
+        final int next;
+
+        boolean handled;
+
+        Batch (int next) {
+            this.next = next;
+        }
+    }
+
+    /**
+     * A builder of {@link UpdatePoller} with polling settings.
+     */
+    public static final class Builder {
+
+        private final TelegramService service;
+
+        private final Function<List<Update>, CompletableFuture<Void>> handler;
+
+        private int timeout;
+
+        private int limit;
+
+        private long errorDelay;
+
+        private int maxPendingBatches;
+
+        private Integer offset;
+
+        private Executor executor;
+
+        private OffsetStore offsetStore;
+
+        private boolean pipelining;
+
+        private boolean virtualThreads;
+
+        private Builder (TelegramService service, Function<List<Update>, CompletableFuture<Void>> handler) {
+            if (service == null) {
+                throw new IllegalArgumentException("service value is required");
+            }
+            if (handler == null) {
+                throw new IllegalArgumentException("handler value is required");
+            }
+            this.service = service;
+            this.handler = handler;
+            timeout = 30;
+            limit = 100;
+            errorDelay = TimeUnit.SECONDS.toMillis(1);
+            maxPendingBatches = 1;
+            pipelining = true;
+        }
+
+        /**
+         * Optional value. Defaults to 30.
+         *
+         * @param timeout timeout in seconds for long polling
+         *
+         * @return {@link Builder} which builds poller
+         */
+        public Builder timeout (int timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to 100.
+         *
+         * @param limit limits the number of updates to be retrieved by a single poll. Values between 1—100 are
+         *              accepted.
+         *
+         * @return {@link Builder} which builds poller
+         */
+        public Builder limit (int limit) {
+            this.limit = limit;
+            return this;
+        }
+
+        /**
+         * Optional value. By default, updates starting with the earliest unconfirmed update are received.
+         *
+         * @param offset identifier of the first update to be received
+         *
+         * @return {@link Builder} which builds poller
+         */
+        public Builder offset (Integer offset) {
+            this.offset = offset;
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to 1 second.
+         *
+         * @param delay pause before the next poll after a failed one
+         * @param unit  delay's time unit
+         *
+         * @return {@link Builder} which builds poller
+         */
+        public Builder errorDelay (long delay, TimeUnit unit) {
+            errorDelay = unit.toMillis(delay);
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to 1, i.e. one batch is processed while the next one is polled.
+         *
+         * @param maxPendingBatches maximum number of received, but not yet processed batches. When it is reached,
+         *                          polling waits for the handler.
+         *
+         * @return {@link Builder} which builds poller
+         */
+        public Builder maxPendingBatches (int maxPendingBatches) {
+            if (maxPendingBatches < 1) {
+                throw new IllegalArgumentException("maxPendingBatches must be positive");
+            }
+            this.maxPendingBatches = maxPendingBatches;
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to a single daemon thread owned by the poller, which processes batches in order.
+         *
+         * @param executor an executor for running the handler
+         *
+         * @return {@link Builder} which builds poller
+         */
+        public Builder executor (Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Optional value. Disabled by default.
+         *
+         * @param offsetStore a store, to which offsets of processed batches are committed. Unless the offset is set
+         *                    explicitly, polling starts from the store's offset.
+         *
+         * @return {@link Builder} which builds poller
+         */
+        public Builder offsetStore (OffsetStore offsetStore) {
+            this.offsetStore = offsetStore;
+            return this;
+        }
+
+        /**
+         * Optional value. Enabled by default.
+         *
+         * @param pipelining whether the next poll is sent while received batches are processed. Without pipelining,
+         *                   a poll waits for all received batches to be processed, so no update is confirmed on the
+         *                   server side before it is processed and committed.
+         *
+         * @return {@link Builder} which builds poller
+         */
+        public Builder pipelining (boolean pipelining) {
+            this.pipelining = pipelining;
+            return this;
+        }
+
+        /**
+         * Optional value. Disabled by default. Requires Java 21 or later, otherwise platform threads are
+         * used, see {@link VirtualThreads#isSupported()}.
+         *
+         * @param virtualThreads whether the polling thread and the poller's own handler thread are virtual threads
+         *
+         * @return {@link Builder} which builds poller
+         */
+        public Builder virtualThreads (boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+            return this;
+        }
+
+        /**
+         * @return a new {@link UpdatePoller} instance
+         */
+        public UpdatePoller build () {
+            return new UpdatePoller(this);
+        }
+    }
+}
@@ -0,0 +1,358 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api.update;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import ru.xxlabaza.telegram.api.RemoteApiException;
+import ru.xxlabaza.telegram.api.TelegramService;
+import ru.xxlabaza.telegram.api.type.Update;
+
+/**
+ * A Reactive Streams publisher of incoming updates, driven by long polling, where the subscriber's demand controls
+ * polling.
+ * <p>
+ * Each poll asks for no more updates than are requested, so a slow subscriber throttles polling instead of updates
+ * piling up in memory, and with no demand there is no poll at all. Since a poll confirms all updates before its offset
+ * on the server side, updates are confirmed only after the subscriber has requested more. Requires
+ * <b>org.reactivestreams:reactive-streams</b> on the classpath; on Java 9 and later it can be adapted to
+ * <b>java.util.concurrent.Flow.Publisher</b> with <b>org.reactivestreams.FlowAdapters</b>:
+ * <pre>
+ * UpdatePublisher publisher = UpdatePublisher.builder(service)
+ *         .timeout(30)
+ *         .build();
+ * Flux.from(publisher)
+ *         .limitRate(10)
+ *         .subscribe(update -&gt; ...);
+ * </pre>
+ * The publisher is unicast, since concurrent polls of the same bot conflict: only its first subscriber receives
+ * updates. Signals are delivered on the publisher's own polling thread. Failed polls are repeated after a pause, except
+ * for unsuccessful responses, which can't succeed on a repeat, like an invalid token or a set webhook: the subscriber
+ * gets them as {@link RemoteApiException} in <b>onError</b>. The stream never completes by itself.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 11:46:39 PM
+ *
+ * @version 1.0.0
+ */
+public final class UpdatePublisher implements Publisher<Update> {
+
+    private static final Logger LOGGER = Logger.getLogger(UpdatePublisher.class.getName());
+
+    private static final DaemonThreadFactory THREAD_FACTORY = new DaemonThreadFactory("telegram-publisher-");
+
+    private final TelegramService service;
+
+    private final int timeout;
+
+    private final int maxLimit;
+
+    private final long errorDelay;
+
+    private final OffsetStore offsetStore;
+
+    private final AtomicBoolean subscribed;
+
+    private volatile Integer offset;
+
+    private UpdatePublisher (Builder builder) {
+        service = builder.service;
+        timeout = builder.timeout;
+        maxLimit = builder.maxLimit;
+        errorDelay = builder.errorDelay;
+        offsetStore = builder.offsetStore;
+        offset = builder.offset == null && offsetStore != null
+                 ? offsetStore.load()
+                 : builder.offset;
+        subscribed = new AtomicBoolean();
+    }
+
+    /**
+     * @param service a service for calling getUpdates
+     *
+     * @return {@link Builder} which builds publisher
+     */
+    public static Builder builder (TelegramService service) {
+        return new Builder(service);
+    }
+
+    @Override
+    public void subscribe (Subscriber<? super Update> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("subscriber value is required");
+        }
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Subscription() {
+
+                @Override
+                public void request (long count) {
+                    // nothing will be published
+                }
+
+                @Override
+                public void cancel () {
+                    // nothing will be published
+                }
+            });
+            subscriber.onError(new IllegalStateException("publisher allows only one subscriber"));
+            return;
+        }
+        PollingSubscription subscription = new PollingSubscription(subscriber);
+        subscription.thread.start();
+    }
+
+    /**
+     * @return identifier of the first update to be requested by the next poll, or null if no updates were received yet
+     */
+    public Integer getOffset () {
+        return offset;
+    }
+
+    private static boolean isRepeatable (RemoteApiException ex) {
+        Integer code = ex.getErrorCode();
+        return code == null || code == 429 || code >= 500;
+    }
+
+    private final class PollingSubscription implements Subscription {
+
+        private final Subscriber<? super Update> subscriber;
+
+        private final AtomicLong requested;
+
+        private final Thread thread;
+
+        private volatile boolean cancelled;
+
+        private volatile IllegalArgumentException illegalRequest;
+
+        PollingSubscription (Subscriber<? super Update> subscriber) {
+            this.subscriber = subscriber;
+            requested = new AtomicLong();
+            thread = THREAD_FACTORY.newThread(this::run);
+        }
+
+        @Override
+        public void request (long count) {
+            if (count <= 0) {
+                illegalRequest = new IllegalArgumentException("non-positive request " + count);
+                cancelled = true;
+            } else {
+                requested.accumulateAndGet(count, (current, added) -> current + added < 0
+                                                                      ? Long.MAX_VALUE
+                                                                      : current + added);
+            }
+            LockSupport.unpark(thread);
+        }
+
+        @Override
+        public void cancel () {
+            cancelled = true;
+            LockSupport.unpark(thread);
+        }
+
+        private void run () {
+            try {
+                subscriber.onSubscribe(this);
+                poll();
+            } catch (RuntimeException ex) {
+                // the subscriber violated the specification by throwing
+                LOGGER.log(Level.SEVERE, "update subscriber failed, subscription is cancelled", ex);
+                cancelled = true;
+            }
+        }
+
+        private void poll () {
+            while (!cancelled) {
+                long demand = requested.get();
+                if (demand == 0) {
+                    LockSupport.park(this);
+                    continue;
+                }
+
+                List<Update> updates;
+                try {
+                    updates = service.getUpdates()
+                            .offset(offset)
+                            .limit((int) Math.min(demand, maxLimit))
+                            .timeout(timeout)
+                            .call();
+                } catch (RemoteApiException ex) {
+                    if (!isRepeatable(ex)) {
+                        cancelled = true;
+                        subscriber.onError(ex);
+                        return;
+                    }
+                    LOGGER.log(Level.WARNING, "getUpdates call failed", ex);
+                    pause();
+                    continue;
+                } catch (RuntimeException ex) {
+                    LOGGER.log(Level.WARNING, "getUpdates call failed", ex);
+                    pause();
+                    continue;
+                }
+                if (updates != null) {
+                    publish(updates);
+                }
+            }
+            if (illegalRequest != null) {
+                subscriber.onError(illegalRequest);
+            }
+        }
+
+        private void publish (List<Update> updates) {
+            for (Update update : updates) {
+                // the rest stays unconfirmed on the server side and is received by the next poll or subscription
+                if (cancelled || requested.get() == 0) {
+                    return;
+                }
+                subscriber.onNext(update);
+                requested.getAndUpdate(current -> current == Long.MAX_VALUE
+                                                  ? current
+                                                  : current - 1);
+                if (update.getId() != null && (offset == null || update.getId() >= offset)) {
+                    offset = update.getId() + 1;
+                    if (offsetStore != null) {
+                        offsetStore.commit(offset);
+                    }
+                }
+            }
+        }
+
+        private void pause () {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(errorDelay);
+            long remaining = deadline - System.nanoTime();
+            while (!cancelled && remaining > 0) {
+                LockSupport.parkNanos(this, remaining);
+                remaining = deadline - System.nanoTime();
+            }
+        }
+    }
+
+    /**
+     * A builder of {@link UpdatePublisher} with polling settings.
+     */
+    public static final class Builder {
+
+        private final TelegramService service;
+
+        private int timeout;
+
+        private int maxLimit;
+
+        private long errorDelay;
+
+        private Integer offset;
+
+        private OffsetStore offsetStore;
+
+        private Builder (TelegramService service) {
+            if (service == null) {
+                throw new IllegalArgumentException("service value is required");
+            }
+            this.service = service;
+            timeout = 30;
+            maxLimit = 100;
+            errorDelay = TimeUnit.SECONDS.toMillis(1);
+        }
+
+        /**
+         * Optional value. Defaults to 30.
+         *
+         * @param timeout timeout in seconds for long polling
+         *
+         * @return {@link Builder} which builds publisher
+         */
+        public Builder timeout (int timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to 100.
+         *
+         * @param maxLimit limits the number of updates to be retrieved by a single poll, even if more are requested.
+         *                 Values between 1—100 are accepted.
+         *
+         * @return {@link Builder} which builds publisher
+         */
+        public Builder maxLimit (int maxLimit) {
+            this.maxLimit = maxLimit;
+            return this;
+        }
+
+        /**
+         * Optional value. By default, updates starting with the earliest unconfirmed update are received.
+         *
+         * @param offset identifier of the first update to be received
+         *
+         * @return {@link Builder} which builds publisher
+         */
+        public Builder offset (Integer offset) {
+            this.offset = offset;
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to 1 second.
+         *
+         * @param delay pause before the next poll after a failed one
+         * @param unit  delay's time unit
+         *
+         * @return {@link Builder} which builds publisher
+         */
+        public Builder errorDelay (long delay, TimeUnit unit) {
+            errorDelay = unit.toMillis(delay);
+            return this;
+        }
+
+        /**
+         * Optional value. Disabled by default.
+         *
+         * @param offsetStore a store, to which offsets of published updates are committed. Unless the offset is set
+         *                    explicitly, polling starts from the store's offset.
+         *
+         * @return {@link Builder} which builds publisher
+         */
+        public Builder offsetStore (OffsetStore offsetStore) {
+            this.offsetStore = offsetStore;
+            return this;
+        }
+
+        /**
+         * @return a new {@link UpdatePublisher} instance
+         */
+        public UpdatePublisher build () {
+            return new UpdatePublisher(this);
+        }
+    }
+}
@@ -0,0 +1,397 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api.update;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsServer;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.net.ssl.SSLContext;
+import ru.xxlabaza.telegram.api.ObjectMappers;
+import ru.xxlabaza.telegram.api.VirtualThreads;
+import ru.xxlabaza.telegram.api.jfr.JfrEvents;
+import ru.xxlabaza.telegram.api.type.Update;
+
+/**
+ * An embedded HTTP endpoint for updates pushed by Telegram to a webhook, registered with setWebhook.
+ * <p>
+ * The receiver runs on the JDK's built-in NIO HTTP server, without a servlet container. Each POSTed update is parsed
+ * by Jackson's streaming parser directly from the request's input stream, acknowledged right away and handed to the
+ * handler on a separate executor:
+ * <pre>
+ * WebhookReceiver receiver = WebhookReceiver.builder(update -&gt; ...)
+ *         .port(8443)
+ *         .path("/&lt;secret-path&gt;")
+ *         .sslContext(sslContext)
+ *         .build();
+ * receiver.start();
+ * service.setWebhook().url("https://example.com:8443/&lt;secret-path&gt;").call();
+ * </pre>
+ * Unparsable requests are answered with 400, and when the handler's executor rejects an update - with 503, so Telegram
+ * redelivers it later. The default executor rejects updates once its queue is full, which slows Telegram down to the
+ * handler's pace. To keep each chat's updates in order, use {@link UpdateDispatcher#dispatch(Update)} as the handler,
+ * with {@code Runnable::run} as the executor.
+ * <p>
+ * An update is acknowledged with 200 as soon as it is queued, before the handler runs, and Telegram does not redeliver
+ * it. Queued updates are lost if the process stops before handling them. With {@code Runnable::run} as the executor,
+ * the response is sent only after the handler returns.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 7:41:18 PM
+ *
+ * @version 1.0.0
+ */
+public final class WebhookReceiver implements Closeable {
+
+    private static final Logger LOGGER = Logger.getLogger(WebhookReceiver.class.getName());
+
+    private static final ObjectReader READER;
+
+    static {
+        READER = ObjectMappers.shared().readerFor(Update.class);
+    }
+
+    private final Consumer<Update> handler;
+
+    private final String path;
+
+    private final Executor executor;
+
+    private final ExecutorService ownExecutor;
+
+    private final ExecutorService ioExecutor;
+
+    private final HttpServer server;
+
+    private WebhookReceiver (Builder builder) {
+        handler = builder.handler;
+        path = builder.path;
+
+        if (builder.executor == null) {
+            ownExecutor = builder.virtualThreads
+                          ? VirtualThreads.newExecutor("telegram-updates-")
+                          : new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors(),
+                                                   Runtime.getRuntime().availableProcessors(),
+                                                   0L, TimeUnit.MILLISECONDS,
+                                                   new ArrayBlockingQueue<>(builder.queueCapacity),
+                                                   new DaemonThreadFactory("telegram-updates-"));
+            executor = ownExecutor;
+        } else {
+            ownExecutor = null;
+            executor = builder.executor;
+        }
+        ioExecutor = Executors.newFixedThreadPool(builder.ioThreads, new DaemonThreadFactory("telegram-webhook-"));
+
+        InetSocketAddress address = builder.host == null
+                                    ? new InetSocketAddress(builder.port)
+                                    : new InetSocketAddress(builder.host, builder.port);
+        try {
+            if (builder.sslContext == null) {
+                server = HttpServer.create(address, builder.backlog);
+            } else {
+                HttpsServer httpsServer = HttpsServer.create(address, builder.backlog);
+                httpsServer.setHttpsConfigurator(new HttpsConfigurator(builder.sslContext));
+                server = httpsServer;
+            }
+        } catch (IOException ex) {
+            ioExecutor.shutdown();
+            if (ownExecutor != null) {
+                ownExecutor.shutdown();
+            }
+            throw new UncheckedIOException(ex);
+        }
+        server.createContext(path, this::receive);
+        server.setExecutor(ioExecutor);
+    }
+
+    /**
+     * @param handler a handler of received updates
+     *
+     * @return {@link Builder} which builds receiver
+     */
+    public static Builder builder (Consumer<Update> handler) {
+        return new Builder(handler);
+    }
+
+    /**
+     * Starts accepting updates.
+     */
+    public void start () {
+        server.start();
+    }
+
+    /**
+     * Stops accepting updates. Already received updates are still processed.
+     */
+    @Override
+    public void close () {
+        server.stop(0);
+        ioExecutor.shutdown();
+        if (ownExecutor != null) {
+            ownExecutor.shutdown();
+        }
+    }
+
+    /**
+     * @return the address the receiver is bound to, for example to learn the port when it was chosen by the system
+     */
+    public InetSocketAddress getAddress () {
+        return server.getAddress();
+    }
+
+    private void receive (HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            if (!path.equals(exchange.getRequestURI().getPath())) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            Update update;
+            try {
+                update = READER.readValue(body);
+            } catch (JsonProcessingException ex) {
+                LOGGER.log(Level.WARNING, "unparsable update received: {0}", ex.getOriginalMessage());
+                exchange.sendResponseHeaders(400, -1);
+                return;
+            }
+
+            long queuedAt = JfrEvents.isUpdateEnabled()
+                            ? System.nanoTime()
+                            : 0;
+            try {
+                executor.execute(() -> handle(update, queuedAt));
+            } catch (RejectedExecutionException ex) {
+                LOGGER.log(Level.WARNING, "update {0} rejected", update.getId());
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, -1);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handle (Update update, long queuedAt) {
+        boolean began = JfrEvents.updateStarted(queuedAt);
+        try {
+            handler.accept(update);
+        } catch (RuntimeException ex) {
+            LOGGER.log(Level.SEVERE, "update handler failed", ex);
+        } finally {
+            JfrEvents.updateFinished(began, "webhook", update);
+        }
+    }
+
+    /**
+     * A builder of {@link WebhookReceiver} with server settings.
+     */
+    public static final class Builder {
+
+        private final Consumer<Update> handler;
+
+        private String host;
+
+        private int port;
+
+        private String path;
+
+        private int backlog;
+
+        private int ioThreads;
+
+        private SSLContext sslContext;
+
+        private Executor executor;
+
+        private boolean virtualThreads;
+
+        private int queueCapacity;
+
+        private Builder (Consumer<Update> handler) {
+            if (handler == null) {
+                throw new IllegalArgumentException("handler value is required");
+            }
+            this.handler = handler;
+            port = 8443;
+            path = "/";
+            backlog = 1024;
+            ioThreads = 2;
+            queueCapacity = 1024;
+        }
+
+        /**
+         * Optional value. By default, the receiver listens on all interfaces.
+         *
+         * @param host a host name or an address to bind to
+         *
+         * @return {@link Builder} which builds receiver
+         */
+        public Builder host (String host) {
+            this.host = host;
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to 8443.
+         *
+         * @param port a port to listen on. Telegram supports webhooks on ports 443, 80, 88 and 8443; 0 chooses a free
+         *             port, for example behind a reverse proxy
+         *
+         * @return {@link Builder} which builds receiver
+         */
+        public Builder port (int port) {
+            this.port = port;
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to "/".
+         *
+         * @param path a path of the webhook URL. Using a secret path, such as the bot's token, ensures that updates
+         *             come from Telegram
+         *
+         * @return {@link Builder} which builds receiver
+         */
+        public Builder path (String path) {
+            if (path == null || !path.startsWith("/")) {
+                throw new IllegalArgumentException("path must start with '/'");
+            }
+            this.path = path;
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to 1024.
+         *
+         * @param backlog maximum number of queued incoming connections
+         *
+         * @return {@link Builder} which builds receiver
+         */
+        public Builder backlog (int backlog) {
+            this.backlog = backlog;
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to 2.
+         *
+         * @param ioThreads number of threads, which read and parse requests
+         *
+         * @return {@link Builder} which builds receiver
+         */
+        public Builder ioThreads (int ioThreads) {
+            if (ioThreads < 1) {
+                throw new IllegalArgumentException("ioThreads must be positive");
+            }
+            this.ioThreads = ioThreads;
+            return this;
+        }
+
+        /**
+         * Optional value. By default, plain HTTP is served, for example behind a TLS-terminating reverse proxy.
+         *
+         * @param sslContext a context with the webhook's certificate, for serving HTTPS
+         *
+         * @return {@link Builder} which builds receiver
+         */
+        public Builder sslContext (SSLContext sslContext) {
+            this.sslContext = sslContext;
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to 1024.
+         *
+         * @param queueCapacity maximum number of updates queued by the receiver's own pool of threads. Further
+         *                      updates are answered with 503, until the handler catches up
+         *
+         * @return {@link Builder} which builds receiver
+         */
+        public Builder queueCapacity (int queueCapacity) {
+            if (queueCapacity < 1) {
+                throw new IllegalArgumentException("queueCapacity must be positive");
+            }
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to a pool of daemon threads, one per processor, owned by the receiver, with a queue
+         * of {@link #queueCapacity(int)} updates.
+         *
+         * @param executor an executor for running the handler
+         *
+         * @return {@link Builder} which builds receiver
+         */
+        public Builder executor (Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Optional value. Disabled by default. Requires Java 21 or later, otherwise platform threads are
+         * used, see {@link VirtualThreads#isSupported()}.
+         *
+         * @param virtualThreads whether the receiver's own executor runs each update's handler on a new virtual
+         *                       thread, instead of a pool of platform threads
+         *
+         * @return {@link Builder} which builds receiver
+         */
+        public Builder virtualThreads (boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+            return this;
+        }
+
+        /**
+         * @return a new {@link WebhookReceiver} instance
+         *
+         * @exception UncheckedIOException if the address can not be bound.
+         */
+        public WebhookReceiver build () {
+            return new WebhookReceiver(this);
+        }
+    }
+}
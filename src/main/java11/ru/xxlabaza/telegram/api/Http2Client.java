@@ -0,0 +1,221 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api;
+
+import feign.Client;
+import feign.Request;
+import feign.Request.Options;
+import feign.Response;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.SSLContext;
+
+/**
+ * An HTTP/2 transport for {@link TelegramService}, backed by {@link HttpClient}.
+ * <p>
+ * Concurrent calls are multiplexed as streams over a single connection per host, instead of occupying a connection
+ * each. Servers without HTTP/2 support are talked to over HTTP/1.1. The service's read timeout limits waiting for
+ * response headers.
+ * <p>
+ * Feign's transports are blocking, so each call still occupies its caller's thread until the response arrives, and
+ * the calls in flight are bounded by the threads making them.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 11:58:37 PM
+ *
+ * @version 1.0.0
+ */
+public final class Http2Client implements Client {
+
+    // headers, which HttpClient sets itself and refuses to take from a caller
+    private static final Set<String> RESTRICTED_HEADERS;
+
+    static {
+        RESTRICTED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        RESTRICTED_HEADERS.addAll(Arrays.asList(
+                "Connection", "Content-Length", "Date", "Expect", "From", "Host",
+                "Origin", "Referer", "Upgrade", "Via", "Warning"
+        ));
+    }
+
+    private final HttpClient httpClient;
+
+    private Http2Client (Builder builder) {
+        HttpClient.Builder httpClientBuilder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofMillis(builder.connectTimeout));
+        if (builder.executor != null) {
+            httpClientBuilder.executor(builder.executor);
+        }
+        if (builder.sslContext != null) {
+            httpClientBuilder.sslContext(builder.sslContext);
+        }
+        httpClient = httpClientBuilder.build();
+    }
+
+    /**
+     * @return true if the runtime supports the HTTP/2 transport
+     */
+    public static boolean isSupported () {
+        return true;
+    }
+
+    /**
+     * @return {@link Builder} which builds HTTP/2 client
+     */
+    public static Builder builder () {
+        return new Builder();
+    }
+
+    @Override
+    public Response execute (Request request, Options options) throws IOException {
+        HttpResponse<InputStream> httpResponse;
+        try {
+            httpResponse = httpClient.send(toHttpRequest(request, options), BodyHandlers.ofInputStream());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while waiting for response of " + request.url());
+        }
+        return toResponse(httpResponse);
+    }
+
+    private HttpRequest toHttpRequest (Request request, Options options) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(request.url()))
+                .method(request.method(), request.body() != null
+                                          ? BodyPublishers.ofByteArray(request.body())
+                                          : BodyPublishers.noBody());
+        if (options.readTimeoutMillis() > 0) {
+            builder.timeout(Duration.ofMillis(options.readTimeoutMillis()));
+        }
+
+        for (Map.Entry<String, Collection<String>> header : request.headers().entrySet()) {
+            if (RESTRICTED_HEADERS.contains(header.getKey())) {
+                continue;
+            }
+            for (String value : header.getValue()) {
+                builder.header(header.getKey(), value);
+            }
+        }
+        return builder.build();
+    }
+
+    private Response toResponse (HttpResponse<InputStream> httpResponse) {
+        Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (Map.Entry<String, List<String>> header : httpResponse.headers().map().entrySet()) {
+            if (!header.getKey().startsWith(":")) {
+                headers.put(header.getKey(), header.getValue());
+            }
+        }
+
+        OptionalLong length = httpResponse.headers().firstValueAsLong("Content-Length");
+        // HTTP/2 has no reason phrases
+        return Response.create(httpResponse.statusCode(), "", headers,
+                               httpResponse.body(),
+                               length.isPresent() && length.getAsLong() <= Integer.MAX_VALUE
+                               ? (int) length.getAsLong()
+                               : null);
+    }
+
+    /**
+     * A builder of {@link Http2Client} with connection settings.
+     */
+    public static final class Builder {
+
+        private long connectTimeout;
+
+        private Executor executor;
+
+        private SSLContext sslContext;
+
+        private Builder () {
+            connectTimeout = TimeUnit.SECONDS.toMillis(10);
+        }
+
+        /**
+         * Optional value. Defaults to 10 seconds.
+         * <p>
+         * Connections are shared by many calls, so the service's connect timeout does not apply to them.
+         *
+         * @param timeout maximum time to establish a connection
+         * @param unit    timeout's time unit
+         *
+         * @return {@link Builder} which builds HTTP/2 client
+         */
+        public Builder connectTimeout (long timeout, TimeUnit unit) {
+            connectTimeout = unit.toMillis(timeout);
+            return this;
+        }
+
+        /**
+         * Optional value. By default the client creates its own executor.
+         *
+         * @param executor executor of the client's asynchronous tasks
+         *
+         * @return {@link Builder} which builds HTTP/2 client
+         */
+        public Builder executor (Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Optional value. Defaults to {@link SSLContext#getDefault()}.
+         *
+         * @param sslContext TLS context of HTTPS connections
+         *
+         * @return {@link Builder} which builds HTTP/2 client
+         */
+        public Builder sslContext (SSLContext sslContext) {
+            this.sslContext = sslContext;
+            return this;
+        }
+
+        /**
+         * @return a new {@link Http2Client} instance
+         */
+        public Http2Client build () {
+            return new Http2Client(this);
+        }
+    }
+}
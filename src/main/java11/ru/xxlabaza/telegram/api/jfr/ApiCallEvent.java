@@ -0,0 +1,82 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * A Bot API call, made by a request builder, with its time split into request encoding, network exchange, including
+ * retries, and response decoding.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 11:43:27 PM
+ *
+ * @version 1.0.0
+ */
+@Name("ru.xxlabaza.telegram.ApiCall")
+@Label("API Call")
+@Category("Telegram API")
+@Description("A Bot API call made by a request builder")
+final class ApiCallEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Chat")
+    String chat;
+
+    @Label("Encode Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long encodeTime;
+
+    @Label("Network Time")
+    @Description("Time from the encoded request until the response headers, including retries")
+    @Timespan(Timespan.NANOSECONDS)
+    long networkTime;
+
+    @Label("Decode Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long decodeTime;
+
+    @Label("Response Size")
+    @Description("Content length of the response, or -1 if unknown")
+    @DataAmount
+    long responseSize;
+
+    @Label("HTTP Status")
+    int httpStatus;
+
+    @Label("OK")
+    boolean ok;
+
+    @Label("Error Code")
+    int errorCode;
+}
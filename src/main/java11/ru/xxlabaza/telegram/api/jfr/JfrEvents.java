@@ -0,0 +1,230 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api.jfr;
+
+import feign.Request;
+import feign.Response;
+import jdk.jfr.EventType;
+import ru.xxlabaza.telegram.api.type.Message;
+import ru.xxlabaza.telegram.api.type.Update;
+
+/**
+ * Hooks, which emit Java Flight Recorder events of API calls and handled updates.
+ * <p>
+ * Calls and updates are handled synchronously on their threads, so the hooks keep a trace of the current call and
+ * update in a thread local. When an event type is disabled, its hooks cost a single enabled check and touch neither
+ * the thread local, nor the clock. Calls, which are made from within another call, like from a consumer of streamed
+ * updates, are a part of the outer call's event. The call, which began an event, learns it from
+ * {@link #callStarted()} and passes it to {@link #callFinished(boolean, String, boolean, int)}, so the event ends even
+ * if recording was disabled meanwhile. Handled updates do the same with {@link #updateStarted(long)} and
+ * {@link #updateFinished(boolean, String, Update)}.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 11:41:05 PM
+ *
+ * @version 1.0.0
+ */
+public final class JfrEvents {
+
+    private static final EventType CALL_TYPE = EventType.getEventType(ApiCallEvent.class);
+
+    private static final EventType UPDATE_TYPE = EventType.getEventType(UpdateEvent.class);
+
+    private static final ThreadLocal<Trace> TRACE = ThreadLocal.withInitial(Trace::new);
+
+    private JfrEvents () {
+    }
+
+    /**
+     * Marks the start of an API call on the current thread.
+     *
+     * @return true if the call began an event, which {@link #callFinished(boolean, String, boolean, int)} must end
+     */
+    public static boolean callStarted () {
+        if (!CALL_TYPE.isEnabled()) {
+            return false;
+        }
+        Trace trace = TRACE.get();
+        if (trace.call != null) {
+            trace.nested++;
+            return false;
+        }
+        trace.call = new ApiCallEvent();
+        trace.call.begin();
+        trace.started = System.nanoTime();
+        trace.encoded = trace.started;
+        trace.received = 0;
+        return true;
+    }
+
+    /**
+     * Marks the end of the call's request encoding.
+     */
+    public static void requestEncoded () {
+        if (!CALL_TYPE.isEnabled()) {
+            return;
+        }
+        Trace trace = TRACE.get();
+        if (trace.nested == 0 && trace.call != null) {
+            trace.encoded = System.nanoTime();
+        }
+    }
+
+    /**
+     * Marks the receipt of the call's response headers.
+     *
+     * @param request  the sent request
+     * @param response the received response
+     */
+    public static void responseReceived (Request request, Response response) {
+        if (!CALL_TYPE.isEnabled()) {
+            return;
+        }
+        Trace trace = TRACE.get();
+        if (trace.nested != 0 || trace.call == null) {
+            return;
+        }
+        trace.received = System.nanoTime();
+        String url = request.url();
+        trace.call.method = url.substring(url.lastIndexOf('/') + 1);
+        trace.call.httpStatus = response.status();
+        Integer length = response.body() == null
+                         ? null
+                         : response.body().length();
+        trace.call.responseSize = length == null
+                                  ? -1
+                                  : length;
+    }
+
+    /**
+     * Marks the end of the API call on the current thread.
+     *
+     * @param began     the result of the call's {@link #callStarted()}
+     * @param chat      the call's target chat, or null
+     * @param ok        true if the call was successful
+     * @param errorCode Bot API's <b>error_code</b> of the unsuccessful call, or 0
+     */
+    public static void callFinished (boolean began, String chat, boolean ok, int errorCode) {
+        if (!began) {
+            if (CALL_TYPE.isEnabled()) {
+                Trace trace = TRACE.get();
+                if (trace.nested > 0) {
+                    trace.nested--;
+                }
+            }
+            return;
+        }
+        Trace trace = TRACE.get();
+        ApiCallEvent event = trace.call;
+        trace.call = null;
+        // the event's nested calls are over, even those, which were not counted while recording was disabled
+        trace.nested = 0;
+        long finished = System.nanoTime();
+        long received = trace.received == 0
+                        ? finished
+                        : trace.received;
+        event.end();
+        if (event.shouldCommit()) {
+            event.chat = chat;
+            event.ok = ok;
+            event.errorCode = errorCode;
+            event.encodeTime = trace.encoded - trace.started;
+            event.networkTime = received - trace.encoded;
+            event.decodeTime = finished - received;
+            event.commit();
+        }
+    }
+
+    /**
+     * @return true if handled updates are recorded, so their enqueue time should be captured
+     */
+    public static boolean isUpdateEnabled () {
+        return UPDATE_TYPE.isEnabled();
+    }
+
+    /**
+     * Marks the start of an update's handling on the current thread.
+     *
+     * @param queuedAt {@link System#nanoTime()} when the update was queued for the handler, or 0 if unknown
+     *
+     * @return true if the handling began an event, which {@link #updateFinished(boolean, String, Update)} must end
+     */
+    public static boolean updateStarted (long queuedAt) {
+        if (!UPDATE_TYPE.isEnabled()) {
+            return false;
+        }
+        Trace trace = TRACE.get();
+        trace.update = new UpdateEvent();
+        trace.update.queueTime = queuedAt == 0
+                                 ? 0
+                                 : System.nanoTime() - queuedAt;
+        trace.update.begin();
+        return true;
+    }
+
+    /**
+     * Marks the end of the update's handling on the current thread.
+     *
+     * @param began  the result of the handling's {@link #updateStarted(long)}
+     * @param source a component, which handled the update, like <b>dispatcher</b> or <b>webhook</b>
+     * @param update the handled update
+     */
+    public static void updateFinished (boolean began, String source, Update update) {
+        if (!began) {
+            return;
+        }
+        Trace trace = TRACE.get();
+        UpdateEvent event = trace.update;
+        trace.update = null;
+        event.end();
+        if (event.shouldCommit()) {
+            event.source = source;
+            event.updateId = update.getId() == null
+                             ? 0
+                             : update.getId();
+            Message message = update.getMessage();
+            event.chat = message == null || message.getChat() == null || message.getChat().getId() == null
+                         ? 0
+                         : message.getChat().getId();
+            event.commit();
+        }
+    }
+
+    private static final class Trace {
+
+        // calls made from within the call of the current event
+        private int nested;
+
+        private ApiCallEvent call;
+
+        private long started;
+
+        private long encoded;
+
+        private long received;
+
+        private UpdateEvent update;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Handling of a received update by its handler. The event's duration is the handler's time.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 11:44:52 PM
+ *
+ * @version 1.0.0
+ */
+@Name("ru.xxlabaza.telegram.UpdateHandled")
+@Label("Update Handled")
+@Category("Telegram API")
+@Description("A received update handled by its handler")
+final class UpdateEvent extends Event {
+
+    @Label("Source")
+    String source;
+
+    @Label("Update ID")
+    int updateId;
+
+    @Label("Chat")
+    long chat;
+
+    @Label("Queue Time")
+    @Description("Time the update waited for a handler thread")
+    @Timespan(Timespan.NANOSECONDS)
+    long queueTime;
+}
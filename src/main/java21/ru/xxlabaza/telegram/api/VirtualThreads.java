@@ -0,0 +1,71 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Factories of virtual threads, for running blocking calls and update handlers without occupying platform threads.
+ * <p>
+ * The library guards blocking operations with {@link java.util.concurrent.locks.ReentrantLock} rather than
+ * <b>synchronized</b>, so a virtual thread blocked on I/O within them unmounts from its carrier instead of pinning it.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 11:50:14 PM
+ *
+ * @version 1.0.0
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads () {
+    }
+
+    /**
+     * @return true if the runtime supports virtual threads
+     */
+    public static boolean isSupported () {
+        return true;
+    }
+
+    /**
+     * @param prefix a prefix of thread names, followed by a sequence number
+     *
+     * @return a factory of virtual threads
+     */
+    public static ThreadFactory factory (String prefix) {
+        return Thread.ofVirtual().name(prefix, 1).factory();
+    }
+
+    /**
+     * @param prefix a prefix of thread names, followed by a sequence number
+     *
+     * @return an executor, which runs each task on a new virtual thread
+     */
+    public static ExecutorService newExecutor (String prefix) {
+        return Executors.newThreadPerTaskExecutor(factory(prefix));
+    }
+}
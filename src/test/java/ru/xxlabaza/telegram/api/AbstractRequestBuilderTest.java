@@ -0,0 +1,91 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.Test;
+import ru.xxlabaza.telegram.api.type.Message;
+
+/**
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 10:12:40 AM
+ *
+ * @version 1.0.0
+ */
+public class AbstractRequestBuilderTest {
+
+    private final List<String> bodies = Collections.synchronizedList(new ArrayList<>());
+
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    private final TelegramService service = TestServices.builder((request, options) -> {
+        bodies.add(new String(request.body(), UTF_8));
+        return TestServices.ok("{\"message_id\":1}");
+    })
+            .executor(tasks::add)
+            .build();
+
+    @Test
+    public void callAsyncCapturesValuesBeforeReturning () throws Exception {
+        SendMessageRequestBuilder builder = service.sendMessage()
+                .chat("42")
+                .text("first");
+        CompletableFuture<Message> first = builder.callAsync();
+        CompletableFuture<Message> second = builder.text("second").callAsync();
+
+        tasks.forEach(Runnable::run);
+
+        assertEquals(Integer.valueOf(1), first.get().getId());
+        assertEquals(Integer.valueOf(1), second.get().getId());
+        assertEquals(2, bodies.size());
+        assertTrue(bodies.get(0).contains("\"first\""));
+        assertTrue(bodies.get(1).contains("\"second\""));
+    }
+
+    @Test
+    public void callAsyncFailsFutureOnMissingValue () throws Exception {
+        CompletableFuture<Message> future = service.sendMessage()
+                .chat("42")
+                .callAsync();
+
+        assertTrue(future.isCompletedExceptionally());
+        assertTrue(tasks.isEmpty());
+        try {
+            future.get();
+            fail("the call must fail");
+        } catch (ExecutionException ex) {
+            assertTrue(ex.getCause() instanceof IllegalArgumentException);
+        }
+    }
+}
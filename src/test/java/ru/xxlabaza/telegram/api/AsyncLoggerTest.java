@@ -0,0 +1,162 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import feign.Client;
+import feign.Logger.Level;
+import feign.Response;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import org.junit.Test;
+
+/**
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 11:38:52 PM
+ *
+ * @version 1.0.0
+ */
+public class AsyncLoggerTest {
+
+    private static final String MESSAGE = "{\"message_id\":1,\"text\":\"a long enough text\"}";
+
+    private final StringWriter output = new StringWriter();
+
+    @Test
+    public void callIsWrittenByWriterThread () throws IOException {
+        AsyncLogger logger = AsyncLogger.builder().writer(output).build();
+        service(logger, (request, options) -> TestServices.ok(MESSAGE)).sendMessage()
+                .chat("42")
+                .text("hi")
+                .call();
+        logger.close();
+
+        String log = output.toString();
+        assertTrue(log, log.contains("---> POST https://api.telegram.org/bot123456:test/sendMessage HTTP/1.1\n"));
+        assertTrue(log, log.contains("\"text\":\"hi\""));
+        assertTrue(log, log.contains("<--- HTTP/1.1 200 OK ("));
+        assertTrue(log, log.contains("{\"ok\":true,\"result\":" + MESSAGE + "}\n"));
+        assertTrue(log, log.contains("<--- END HTTP (65-byte body)\n"));
+        assertEquals(0, logger.getDropped());
+    }
+
+    @Test
+    public void bodiesAreTruncated () throws IOException {
+        AsyncLogger logger = AsyncLogger.builder()
+                .writer(output)
+                .maxBodyBytes(10)
+                .build();
+        service(logger, (request, options) -> TestServices.ok(MESSAGE)).getMe().call();
+        logger.close();
+
+        String log = output.toString();
+        assertTrue(log, log.contains("{\"ok\":true... (55 more bytes)\n"));
+        assertTrue(log, log.contains("<--- END HTTP (65-byte body)\n"));
+    }
+
+    @Test
+    public void unsampledCallsAreLoggedOnlyOnFailure () throws IOException {
+        AsyncLogger logger = AsyncLogger.builder()
+                .writer(output)
+                .sampleRate(0)
+                .build();
+        Response failure = Response.create(400, "Bad Request", Collections.emptyMap(),
+                                           "{\"ok\":false}".getBytes(UTF_8));
+        TelegramService service = service(logger, (request, options) -> request.url().endsWith("/getMe")
+                                                                         ? TestServices.ok(MESSAGE)
+                                                                         : failure);
+        service.getMe().call();
+        try {
+            service.sendChatAction().chat("42").action("typing").call();
+            fail();
+        } catch (RemoteApiException ex) {
+            // logged below
+        }
+        logger.close();
+
+        String log = output.toString();
+        assertFalse(log, log.contains("getMe"));
+        assertTrue(log, log.contains("<--- HTTP/1.1 400 Bad Request ("));
+    }
+
+    @Test(timeout = 10_000)
+    public void fullBufferDropsRecordsInsteadOfBlocking () throws IOException {
+        CountDownLatch release = new CountDownLatch(1);
+        AsyncLogger logger = AsyncLogger.builder()
+                .writer(new BlockedWriter(release))
+                .capacity(4)
+                .build();
+        TelegramService service = service(logger, (request, options) -> TestServices.ok(MESSAGE));
+
+        for (int index = 0; index < 100; index++) {
+            service.getMe().call();
+        }
+
+        assertTrue(logger.getDropped() > 0);
+        release.countDown();
+        logger.close();
+    }
+
+        private static TelegramService service (AsyncLogger logger, Client client) {
+        return TestServices.builder(client)
+                .logger(logger, Level.FULL)
+                .build();
+    }
+
+    // blocks the writer thread until released
+    private static final class BlockedWriter extends Writer {
+
+        private final CountDownLatch release;
+
+        BlockedWriter (CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void write (char[] buffer, int offset, int length) throws IOException {
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void flush () {
+        }
+
+        @Override
+        public void close () {
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.Test;
+import ru.xxlabaza.telegram.api.type.Message;
+
+/**
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 11:48:05 AM
+ *
+ * @version 1.0.0
+ */
+public class BroadcastRequestBuilderTest {
+
+    private final TelegramService service = TestServices.service("{\"message_id\":1}");
+
+    @Test
+    public void callAsyncFailsFutureOnMissingValue () throws Exception {
+        CompletableFuture<BroadcastReport> future = service.broadcast()
+                .chats(Arrays.asList("1", "2"))
+                .callAsync(command -> fail("no worker must start"));
+
+        assertFailsWith(IllegalArgumentException.class, future);
+    }
+
+    @Test
+    public void callAsyncFailsFutureOnRejectedWorkers () throws Exception {
+        CompletableFuture<BroadcastReport> future = service.broadcast()
+                .chats(Arrays.asList("1", "2"))
+                .text("hello")
+                .callAsync(command -> {
+                    throw new RejectedExecutionException("executor is shut down");
+                });
+
+        assertFailsWith(RejectedExecutionException.class, future);
+    }
+
+    @Test
+    public void failingListenerChangesNeitherCountsNorProgress () {
+        // sending to the third chat fails
+        TelegramService failingService = TestServices.builder((request, options) -> {
+            String body = new String(request.body(), UTF_8);
+            return body.contains("\"chat_id\":\"3\"")
+                   ? TestServices.json("{\"ok\":false,\"error_code\":400}")
+                   : TestServices.ok("{\"message_id\":1}");
+        }).build();
+        List<String> notified = Collections.synchronizedList(new ArrayList<>());
+
+        BroadcastReport report = failingService.broadcast()
+                .chats(Arrays.asList("1", "2", "3", "4"))
+                .text("hello")
+                .parallelism(1)
+                .listener(new BroadcastListener() {
+
+                    @Override
+                    public void onSent (String chat, Message message) {
+                        notified.add(chat);
+                        throw new IllegalStateException("listener failed");
+                    }
+
+                    @Override
+                    public void onFailed (String chat, RuntimeException exception) {
+                        notified.add(chat);
+                        throw new IllegalStateException("listener failed");
+                    }
+                })
+                .callAsync(Runnable::run)
+                .join();
+
+        assertEquals(3, report.getSent());
+        assertEquals(1, report.getFailed());
+        assertEquals(Arrays.asList("1", "2", "3", "4"), notified);
+    }
+
+    private static void assertFailsWith (Class<? extends Throwable> type, CompletableFuture<?> future)
+            throws InterruptedException {
+        assertTrue(future.isCompletedExceptionally());
+        try {
+            future.get();
+            fail("the broadcast must fail");
+        } catch (ExecutionException ex) {
+            assertTrue(type.isInstance(ex.getCause()));
+        }
+    }
+}
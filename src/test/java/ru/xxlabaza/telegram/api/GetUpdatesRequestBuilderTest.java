@@ -0,0 +1,124 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import feign.Response;
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import ru.xxlabaza.telegram.api.type.Update;
+
+/**
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 8:27:15 PM
+ *
+ * @version 1.0.0
+ */
+public class GetUpdatesRequestBuilderTest {
+
+    private static final String UPDATES = "[{\"update_id\":1,\"unknown\":{\"nested\":[1,2]}},{\"update_id\":2},"
+                                          + "{\"update_id\":3,\"message\":{\"message_id\":7,\"text\":\"hi\"}}]";
+
+    private final AtomicInteger read = new AtomicInteger();
+
+    private final TelegramService service = TestServices.builder((request, options) -> {
+        if (request.url().endsWith("/getMe")) {
+            return TestServices.ok("{\"id\":1,\"first_name\":\"bot\"}");
+        }
+        byte[] body = ("{\"ok\":true,\"result\":" + UPDATES + "}").getBytes(UTF_8);
+        // counts the bytes, which the decoder has read so far
+        ByteArrayInputStream input = new ByteArrayInputStream(body) {
+
+            @Override
+            public synchronized int read (byte[] buffer, int offset, int length) {
+                // one byte at a time, so a buffering parser can't read ahead the whole body at once
+                int count = super.read(buffer, offset, Math.min(length, 1));
+                read.addAndGet(Math.max(count, 0));
+                return count;
+            }
+        };
+        return Response.create(200, "OK", Collections.singletonMap("Content-Type", asList("application/json")),
+                               input, body.length);
+    }).build();
+
+    @Test
+    public void streamPassesUpdatesWhileResponseIsRead () {
+        List<Integer> ids = new ArrayList<>();
+        List<Integer> readBefore = new ArrayList<>();
+
+        int count = service.getUpdates().stream(update -> {
+            ids.add(update.getId());
+            readBefore.add(read.get());
+        });
+
+        assertEquals(3, count);
+        assertEquals(asList(1, 2, 3), ids);
+        assertTrue("first update consumed after " + readBefore.get(0) + " bytes",
+                   readBefore.get(0) < UPDATES.length());
+    }
+
+    @Test
+    public void consumerCanCallServiceFromStream () {
+        List<String> names = new ArrayList<>();
+
+        service.getUpdates().stream(update -> names.add(service.getMe().call().getFirstName()));
+
+        assertEquals(asList("bot", "bot", "bot"), names);
+    }
+
+    @Test
+    public void consumerFailureAbortsStream () {
+        IllegalStateException failure = new IllegalStateException("test");
+        List<Integer> ids = new ArrayList<>();
+
+        try {
+            service.getUpdates().stream(update -> {
+                ids.add(update.getId());
+                if (update.getId() == 2) {
+                    throw failure;
+                }
+            });
+            fail();
+        } catch (IllegalStateException ex) {
+            assertSame(failure, ex);
+        }
+
+        assertEquals(asList(1, 2), ids);
+        // the thread is no longer bound to the consumer
+        List<Update> updates = service.getUpdates().call();
+        assertEquals(3, updates.size());
+        assertEquals("hi", updates.get(2).getMessage().getText());
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+
+import com.sun.net.httpserver.HttpServer;
+import feign.Request;
+import feign.Request.Options;
+import feign.Response;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+/**
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 4:41:05 PM
+ *
+ * @version 1.0.0
+ */
+public class Http2ClientTest {
+
+    @Test
+    public void executeSendsRequestAndReadsResponse () throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] body = (exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath() + " "
+                           + exchange.getRequestHeaders().getFirst("Content-Type") + " "
+                           + read(exchange.getRequestBody())).getBytes(UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain");
+            exchange.sendResponseHeaders(201, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        server.start();
+        try {
+            Http2Client client = Http2Client.builder()
+                    .connectTimeout(1, TimeUnit.SECONDS)
+                    .build();
+
+            Map<String, Collection<String>> headers = new HashMap<>();
+            headers.put("Content-Type", Collections.singletonList("application/json"));
+            Request request = Request.create("POST",
+                                             "http://127.0.0.1:" + server.getAddress().getPort() + "/bot/sendMessage",
+                                             headers, "{\"chat_id\":1}".getBytes(UTF_8), UTF_8);
+
+            Response response = client.execute(request, new Options(1000, 5000));
+
+            assertEquals(201, response.status());
+            assertEquals(Collections.singletonList("text/plain"), header(response, "Content-Type"));
+            assertEquals("POST /bot/sendMessage application/json {\"chat_id\":1}",
+                         read(response.body().asInputStream()));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    // HTTP/2 header names are lowercase, HTTP/1.1 ones are as the server sends them
+    private static Collection<String> header (Response response, String name) {
+        for (Map.Entry<String, Collection<String>> header : response.headers().entrySet()) {
+            if (name.equalsIgnoreCase(header.getKey())) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static String read (InputStream input) throws IOException {
+        try (InputStream stream = input) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            for (int count = stream.read(buffer); count != -1; count = stream.read(buffer)) {
+                output.write(buffer, 0, count);
+            }
+            return new String(output.toByteArray(), UTF_8);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.FeignException;
+import java.io.IOException;
+import org.junit.Test;
+import ru.xxlabaza.telegram.api.type.User;
+
+/**
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 8:58:04 PM
+ *
+ * @version 1.0.0
+ */
+public class ObjectMappersTest {
+
+    private static final String USER = "{\"id\":1,\"first_name\":\"bot\",\"is_premium\":true}";
+
+    @Test
+    public void sharedMapperIsOneInstance () {
+        assertSame(ObjectMappers.shared(), ObjectMappers.shared());
+        assertNotSame(ObjectMappers.shared(), ObjectMappers.create());
+    }
+
+    @Test
+    public void unknownPropertiesAreIgnored () throws IOException {
+        User user = ObjectMappers.shared().readValue(USER, User.class);
+
+        assertEquals(Integer.valueOf(1), user.getId());
+        assertEquals("bot", user.getFirstName());
+    }
+
+    @Test
+    public void nullsAreOmitted () throws IOException {
+        User user = new User();
+        user.setId(1);
+
+        assertEquals("{\"id\":1}", ObjectMappers.shared().writeValueAsString(user));
+    }
+
+    @Test
+    public void packagePrivateParametersAreSerialized () throws IOException {
+        String json = ObjectMappers.shared().writeValueAsString(new GetUpdatesParameters(5, 100, null));
+
+        assertEquals(ObjectMappers.shared().readTree("{\"offset\":5,\"limit\":100}"),
+                     ObjectMappers.shared().readTree(json));
+    }
+
+    @Test
+    public void serviceUsesCustomMapper () {
+        ObjectMapper strict = ObjectMappers.warmUp(ObjectMappers.create()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true));
+        TelegramService service = TestServices.builder((request, options) -> TestServices.ok(USER))
+                .mapper(strict)
+                .build();
+
+        try {
+            service.getMe().call();
+            fail();
+        } catch (FeignException ex) {
+            assertTrue(ex.getMessage(), ex.getMessage().contains("is_premium"));
+        }
+        assertEquals("bot", TestServices.service(USER).getMe().call().getFirstName());
+    }
+}
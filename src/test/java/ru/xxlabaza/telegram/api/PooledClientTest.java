@@ -0,0 +1,130 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+
+import com.sun.net.httpserver.HttpServer;
+import feign.Request;
+import feign.Request.Options;
+import feign.Response;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 1:31:47 PM
+ *
+ * @version 1.0.0
+ */
+public class PooledClientTest {
+
+    private HttpServer server;
+
+    private Set<Integer> clientPorts;
+
+    @Before
+    public void before () throws IOException {
+        clientPorts = ConcurrentHashMap.newKeySet();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            byte[] body = (exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath() + " "
+                           + exchange.getRequestHeaders().getFirst("Content-Type") + " "
+                           + read(exchange.getRequestBody())).getBytes(UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain");
+            exchange.sendResponseHeaders(201, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @After
+    public void after () {
+        server.stop(0);
+    }
+
+    @Test
+    public void executeSendsRequestAndReadsResponse () throws IOException {
+        try (PooledClient client = PooledClient.builder().build()) {
+            Response response = client.execute(request("{\"chat_id\":1}"), new Options(1000, 5000));
+
+            assertEquals(201, response.status());
+            // the server capitalizes only the first letter of header names
+            assertEquals(Collections.singletonList("text/plain"), response.headers().get("Content-type"));
+            assertEquals("POST /bot/sendMessage application/json {\"chat_id\":1}",
+                         read(response.body().asInputStream()));
+        }
+    }
+
+    @Test
+    public void sequentialCallsReuseOneConnection () throws IOException {
+        try (PooledClient client = PooledClient.builder().build()) {
+            for (int index = 0; index < 5; index++) {
+                Response response = client.execute(request("{\"chat_id\":" + index + '}'), new Options(1000, 5000));
+                // the connection returns to the pool once its response is consumed
+                read(response.body().asInputStream());
+            }
+        }
+
+        assertEquals(1, clientPorts.size());
+    }
+
+    private Request request (String body) {
+        Map<String, Collection<String>> headers = new HashMap<>();
+        headers.put("Content-Type", Collections.singletonList("application/json"));
+        // computed by the pooled client itself, a duplicate would be rejected
+        headers.put("Content-Length", Collections.singletonList(String.valueOf(body.length())));
+        return Request.create("POST", "http://127.0.0.1:" + server.getAddress().getPort() + "/bot/sendMessage",
+                              headers, body.getBytes(UTF_8), UTF_8);
+    }
+
+    private static String read (InputStream input) throws IOException {
+        try (InputStream stream = input) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            for (int count = stream.read(buffer); count != -1; count = stream.read(buffer)) {
+                output.write(buffer, 0, count);
+            }
+            return new String(output.toByteArray(), UTF_8);
+        }
+    }
+}
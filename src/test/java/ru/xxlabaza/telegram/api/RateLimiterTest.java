@@ -0,0 +1,138 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+
+/**
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 11:04:52 AM
+ *
+ * @version 1.0.0
+ */
+public class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private static final long GLOBAL_INTERVAL = SECOND / 30;
+
+    private static final long GROUP_INTERVAL = TimeUnit.MINUTES.toNanos(1) / 20;
+
+    private final AtomicLong time = new AtomicLong();
+
+    private final RateLimiter.Builder builder = RateLimiter.builder().clock(time::get);
+
+    @Test
+    public void throttledChatDoesNotDelayOtherChats () {
+        RateLimiter limiter = builder.build();
+
+        assertEquals(0, send(limiter, "-1"));
+        assertEquals(GROUP_INTERVAL, limiter.reserveChat("-1"));
+
+        // the group's second message waits for its own slot, without taking a global slot in the future
+        assertEquals(GLOBAL_INTERVAL, send(limiter, "-2"));
+        assertEquals(2 * GLOBAL_INTERVAL, send(limiter, "-3"));
+
+        time.addAndGet(GROUP_INTERVAL);
+        assertEquals(0, limiter.reserveGlobal("-1"));
+    }
+
+    @Test
+    public void distinctChatsHaveDistinctLimits () {
+        RateLimiter limiter = builder.build();
+
+        for (int chat = 0; chat < 10_000; chat++) {
+            assertEquals(0, limiter.reserveChat(Integer.toString(chat)));
+        }
+    }
+
+    @Test
+    public void globalLimitSpacesMessages () {
+        RateLimiter limiter = builder.build();
+
+        for (int chat = 0; chat < 30; chat++) {
+            assertEquals(chat * GLOBAL_INTERVAL, send(limiter, Integer.toString(chat)));
+        }
+    }
+
+    @Test
+    public void globallyDelayedMessageMovesChatSlot () {
+        RateLimiter limiter = builder.build();
+
+        for (int chat = 0; chat < 29; chat++) {
+            send(limiter, Integer.toString(chat));
+        }
+        assertEquals(29 * GLOBAL_INTERVAL, send(limiter, "100"));
+        assertEquals(29 * GLOBAL_INTERVAL + SECOND, limiter.reserveChat("100"));
+    }
+
+    @Test
+    public void burstIsAllowedAfterIdle () {
+        RateLimiter limiter = builder.globalBurst(5).chatBurst(3).build();
+
+        for (int message = 0; message < 3; message++) {
+            assertEquals(0, send(limiter, "1"));
+        }
+        assertEquals(SECOND, limiter.reserveChat("1"));
+
+        assertEquals(0, send(limiter, "2"));
+        assertEquals(0, send(limiter, "3"));
+        assertEquals(GLOBAL_INTERVAL, send(limiter, "4"));
+
+        // an idle bot gets its burst back
+        time.addAndGet(SECOND);
+        for (int message = 0; message < 5; message++) {
+            assertEquals(0, send(limiter, Integer.toString(10 + message)));
+        }
+        assertEquals(GLOBAL_INTERVAL, send(limiter, "20"));
+    }
+
+    @Test
+    public void idleChatsAreEvicted () {
+        RateLimiter limiter = builder.build();
+
+        for (int chat = 0; chat < 10_000; chat++) {
+            limiter.reserveChat(Integer.toString(chat));
+            time.addAndGet(GLOBAL_INTERVAL);
+        }
+        assertTrue(limiter.trackedChats() < 4096);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void burstMustBePositive () {
+        builder.globalBurst(0);
+    }
+
+    private static long send (RateLimiter limiter, String chat) {
+        long delay = limiter.reserveChat(chat);
+        assertEquals(0, delay);
+        return limiter.reserveGlobal(chat);
+    }
+}
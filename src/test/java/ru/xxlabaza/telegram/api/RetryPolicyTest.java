@@ -0,0 +1,145 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import feign.Response;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import ru.xxlabaza.telegram.api.type.User;
+
+/**
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 5:19:32 PM
+ *
+ * @version 1.0.0
+ */
+public class RetryPolicyTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    public void floodControlIsRetriedAfterRetryAfter () {
+        TelegramService service = service(RetryPolicy.builder().build(), 1, tooManyRequests(1));
+
+        long started = System.nanoTime();
+        User user = service.getMe().call();
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        assertEquals(Integer.valueOf(1), user.getId());
+        assertEquals(2, calls.get());
+        assertTrue("retried after " + elapsed + " ms", elapsed >= 900);
+    }
+
+    @Test
+    public void longerRetryAfterIsThrownImmediately () {
+        RetryPolicy policy = RetryPolicy.builder()
+                .maxRetryAfter(1, TimeUnit.SECONDS)
+                .build();
+        TelegramService service = service(policy, 1, tooManyRequests(30));
+
+        try {
+            service.getMe().call();
+            fail();
+        } catch (RemoteApiException ex) {
+            assertEquals(Integer.valueOf(429), ex.getErrorCode());
+            assertEquals(Integer.valueOf(30), ex.getRetryAfter());
+        }
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void serverErrorIsRetriedUntilAttemptsRunOut () {
+        RetryPolicy policy = RetryPolicy.builder()
+                .maxAttempts(3)
+                .initialBackoff(1, TimeUnit.MILLISECONDS)
+                .build();
+        TelegramService service = service(policy, Integer.MAX_VALUE,
+                                          response(502, "{\"ok\":false,\"error_code\":502,"
+                                                        + "\"description\":\"Bad Gateway\"}"));
+
+        try {
+            service.getMe().call();
+            fail();
+        } catch (RemoteApiException ex) {
+            assertEquals(Integer.valueOf(502), ex.getErrorCode());
+            assertEquals("Bad Gateway", ex.getMessage());
+        }
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    public void clientErrorIsNotRetried () {
+        TelegramService service = service(RetryPolicy.builder().build(), Integer.MAX_VALUE,
+                                          response(400, "{\"ok\":false,\"error_code\":400,"
+                                                        + "\"description\":\"Bad Request: chat not found\"}"));
+
+        try {
+            service.getMe().call();
+            fail();
+        } catch (RemoteApiException ex) {
+            assertEquals(Integer.valueOf(400), ex.getErrorCode());
+        }
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void nonApiErrorKeepsHttpStatus () {
+        TelegramService service = service(RetryPolicy.builder().maxAttempts(1).build(), Integer.MAX_VALUE,
+                                          response(503, "<html>Service Unavailable</html>"));
+
+        try {
+            service.getMe().call();
+            fail();
+        } catch (RemoteApiException ex) {
+            assertEquals(Integer.valueOf(503), ex.getErrorCode());
+        }
+        assertEquals(1, calls.get());
+    }
+
+    // fails the first failures calls with the response, then answers successfully
+    private TelegramService service (RetryPolicy policy, int failures, Response failure) {
+        return TestServices.builder((request, options) -> calls.incrementAndGet() <= failures
+                                                          ? failure
+                                                          : TestServices.ok("{\"id\":1,\"first_name\":\"bot\"}"))
+                .retryPolicy(policy)
+                .build();
+    }
+
+    private static Response tooManyRequests (int retryAfter) {
+        return response(429, "{\"ok\":false,\"error_code\":429,\"description\":\"Too Many Requests: retry after "
+                             + retryAfter + "\",\"parameters\":{\"retry_after\":" + retryAfter + "}}");
+    }
+
+    private static Response response (int status, String body) {
+        return Response.create(status, "", Collections.emptyMap(), body.getBytes(UTF_8));
+    }
+}
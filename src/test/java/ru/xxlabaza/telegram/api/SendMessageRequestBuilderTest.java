@@ -0,0 +1,96 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Request;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+import ru.xxlabaza.telegram.api.type.ForceReply;
+
+/**
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 2:14:09 PM
+ *
+ * @version 1.0.0
+ */
+public class SendMessageRequestBuilderTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final List<Request> requests = new ArrayList<>();
+
+    private final TelegramService service = TestServices.builder((request, options) -> {
+        requests.add(request);
+        return TestServices.ok("{\"message_id\":1}");
+    }).build();
+
+    @Test
+    public void parametersArePostedAsJsonBody () throws IOException {
+        service.sendMessage()
+                .chat("42")
+                .text("a & b?c=d")
+                .call();
+
+        Request request = requests.get(0);
+        assertEquals("POST", request.method());
+        // nothing is percent-encoded into the request line
+        assertEquals("https://api.telegram.org/bot123456:test/sendMessage", request.url());
+        assertEquals(Collections.singletonList("application/json"), request.headers().get("Content-Type"));
+        assertEquals(json("{'chat_id':'42','text':'a & b?c=d','disable_web_page_preview':false}"), body(request));
+    }
+
+    @Test
+    public void replyMarkupIsNestedIntoBody () throws IOException {
+        ForceReply forceReply = new ForceReply();
+        forceReply.setForced(true);
+        service.sendMessage()
+                .chat("42")
+                .text("text")
+                .mode("Markdown")
+                .replyTo(7)
+                .forceReply(forceReply)
+                .call();
+
+        assertEquals(json("{'chat_id':'42','text':'text','parse_mode':'Markdown','disable_web_page_preview':false,"
+                          + "'reply_to_message_id':7,'reply_markup':{'force_reply':true,'selective':false}}"),
+                     body(requests.get(0)));
+    }
+
+    private static JsonNode body (Request request) throws IOException {
+        return MAPPER.readTree(new String(request.body(), UTF_8));
+    }
+
+    private static JsonNode json (String json) throws IOException {
+        return MAPPER.readTree(json.replace('\'', '"'));
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Test;
+import ru.xxlabaza.telegram.api.type.Message;
+
+/**
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 2:51:19 PM
+ *
+ * @version 1.0.0
+ */
+public class SendQueueTest {
+
+    private final AtomicInteger chatActions = new AtomicInteger();
+
+    private final List<String> bodies = Collections.synchronizedList(new ArrayList<>());
+
+    private final TelegramService service = TestServices.builder((request, options) -> {
+        if (request.url().endsWith("/sendChatAction")) {
+            chatActions.incrementAndGet();
+            return TestServices.ok("true");
+        }
+        bodies.add(new String(request.body(), UTF_8));
+        return TestServices.ok("{\"message_id\":1,\"chat\":{\"id\":-123456}}");
+    }).build();
+
+    private final SendQueue queue = SendQueue.builder(service).workers(1).build();
+
+    @After
+    public void tearDown () {
+        queue.close();
+    }
+
+    @Test
+    public void messageResetsChannelAction () {
+        queue.chatAction("@channel", "typing").join();
+        queue.chatAction("@channel", "typing").join();
+        assertEquals(1, chatActions.get());
+
+        queue.reply(service.sendMessage().chat("@channel").text("Hello")).join();
+        queue.chatAction("@channel", "typing").join();
+        assertEquals(2, chatActions.get());
+    }
+
+    @Test(timeout = 5_000)
+    public void replyCapturesValuesBeforeReturning () throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        queue.submit(SendQueue.Priority.INTERACTIVE, () -> {
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        });
+
+        // the only worker is busy, so the messages wait in the queue while the builder changes
+        SendMessageRequestBuilder builder = service.sendMessage().chat("42").text("first");
+        CompletableFuture<Message> first = queue.reply(builder);
+        CompletableFuture<Message> second = queue.bulk(builder.text("second"));
+        builder.text("third");
+        release.countDown();
+
+        first.join();
+        second.join();
+        assertEquals(2, bodies.size());
+        assertTrue(bodies.get(0).contains("\"first\""));
+        assertTrue(bodies.get(1).contains("\"second\""));
+    }
+
+    @Test
+    public void invalidReplyFailsBeforeQueueing () {
+        CompletableFuture<Message> future = queue.reply(service.sendMessage().chat("42"));
+
+        assertTrue(future.isCompletedExceptionally());
+        try {
+            future.join();
+            fail("the reply must fail");
+        } catch (CompletionException ex) {
+            assertTrue(ex.getCause() instanceof IllegalArgumentException);
+        }
+        assertTrue(bodies.isEmpty());
+    }
+
+    @Test
+    public void closedQueueRejectsEveryChatAction () {
+        queue.close();
+        for (int attempt = 0; attempt < 2; attempt++) {
+            try {
+                queue.chatAction("42", "typing");
+                fail("a closed queue must reject chat actions");
+            } catch (IllegalStateException ex) {
+                assertEquals("queue is closed", ex.getMessage());
+            }
+        }
+        assertEquals(0, queue.getCoalesced());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import feign.Client;
+import feign.Response;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Services of tests, which talk to a stubbed transport instead of the Bot API.
+ *
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 5:02:44 PM
+ *
+ * @version 1.0.0
+ */
+public final class TestServices {
+
+    private static final Map<String, Collection<String>> HEADERS = Collections.singletonMap(
+            "Content-Type", Collections.singletonList("application/json")
+    );
+
+    private TestServices () {
+    }
+
+    /**
+     * @param client a stubbed transport
+     *
+     * @return {@link TelegramService.Builder} with a test token and the transport
+     */
+    public static TelegramService.Builder builder (Client client) {
+        return TelegramService.builder()
+                .token("123456:test")
+                .client(client);
+    }
+
+    /**
+     * @param result JSON of the result, which answers every call
+     *
+     * @return a new service
+     */
+    public static TelegramService service (String result) {
+        return builder((request, options) -> ok(result)).build();
+    }
+
+    /**
+     * @param result JSON of the result
+     *
+     * @return a successful Bot API response
+     */
+    public static Response ok (String result) {
+        return json("{\"ok\":true,\"result\":" + result + "}");
+    }
+
+    /**
+     * @param json JSON of the whole response, like a failed one
+     *
+     * @return a Bot API response with status 200
+     */
+    public static Response json (String json) {
+        return Response.create(200, "OK", HEADERS, json.getBytes(UTF_8));
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import feign.Request;
+import feign.RequestTemplate;
+import org.junit.Test;
+
+/**
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 1:29:08 PM
+ *
+ * @version 1.0.0
+ */
+public class TokenTargetTest {
+
+    @Test
+    public void tokenMovesFromHeaderToUrl () {
+        RequestTemplate template = new RequestTemplate()
+                .method("POST")
+                .append("/getMe")
+                .header(TokenTarget.TOKEN_HEADER, "123456:test")
+                .header("Content-Type", "application/json");
+
+        Request request = new TokenTarget("https://api.telegram.org/bot").apply(template);
+
+        assertEquals("https://api.telegram.org/bot123456:test/getMe", request.url());
+        assertFalse(request.headers().containsKey(TokenTarget.TOKEN_HEADER));
+        assertEquals(1, request.headers().size());
+    }
+}
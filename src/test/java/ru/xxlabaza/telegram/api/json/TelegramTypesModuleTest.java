@@ -0,0 +1,153 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api.json;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+import org.junit.Test;
+import ru.xxlabaza.telegram.api.ObjectMappers;
+import ru.xxlabaza.telegram.api.type.Message;
+import ru.xxlabaza.telegram.api.type.Update;
+
+/**
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 4:48:52 PM
+ *
+ * @version 1.0.0
+ */
+public class TelegramTypesModuleTest {
+
+    private static final String UPDATE = ("{"
+                                          + "'update_id':100,"
+                                          + "'unknown_field':{'nested':[1,2,{'deep':true}]},"
+                                          + "'message':{"
+                                          + "'message_id':7,"
+                                          + "'from':{'id':1,'first_name':'Ann','last_name':null,'unknown':'x'},"
+                                          + "'date':1476900000,"
+                                          + "'chat':{'id':-123456,'type':'group','title':'Group','username':null},"
+                                          + "'text':null,"
+                                          + "'reply_to_message':{"
+                                          + "'message_id':6,"
+                                          + "'from':{'id':2,'first_name':'Bob','username':'bob'},"
+                                          + "'date':1476899990,"
+                                          + "'chat':{'id':-123456,'type':'group','title':'Group'},"
+                                          + "'text':'hello',"
+                                          + "'location':{'longitude':37.617635,'latitude':55.755814},"
+                                          + "'group_chat_created':true,"
+                                          + "'unknown_flag':false"
+                                          + "},"
+                                          + "'new_chat_photo':["
+                                          + "{'file_id':'small','width':90,'height':90,'file_size':1024},"
+                                          + "{'file_id':'big','width':320,'height':320,'file_size':null,'unknown':[]}"
+                                          + "],"
+                                          + "'delete_chat_photo':false,"
+                                          + "'supergroup_chat_created':null,"
+                                          + "'channel_chat_created':true,"
+                                          + "'migrate_to_chat_id':null"
+                                          + "}"
+                                          + "}").replace('\'', '"');
+
+    private final ObjectMapper codecs = ObjectMappers.create();
+
+    private final ObjectMapper beans = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+    @Test
+    public void deserializationMatchesBeanBinding () throws Exception {
+        Update update = codecs.readValue(UPDATE, Update.class);
+
+        assertEquals(beans.readValue(UPDATE, Update.class), update);
+
+        Message message = update.getMessage();
+        assertNull(message.getText());
+        assertNull(message.getFrom().getLastName());
+        assertFalse(message.isDeleteChatPhoto());
+        assertTrue(message.isChannelChatCreated());
+        assertTrue(message.getReplyTo().isGroupChatCreated());
+        assertEquals("bob", message.getReplyTo().getFrom().getUsername());
+        assertEquals(2, message.getNewChatPhoto().size());
+        assertNull(message.getNewChatPhoto().get(1).getSize());
+    }
+
+    @Test
+    public void serializationMatchesBeanBinding () throws Exception {
+        Update update = beans.readValue(UPDATE, Update.class);
+
+        String json = codecs.writeValueAsString(update);
+        JsonNode expected = withoutFalseFlags(beans.readTree(beans.writeValueAsString(update)));
+
+        assertEquals(expected, beans.readTree(json));
+        assertEquals(update, beans.readValue(json, Update.class));
+        assertEquals(update, codecs.readValue(beans.writeValueAsString(update), Update.class));
+    }
+
+    @Test
+    public void falseFlagsAndNullsAreNotWritten () throws Exception {
+        JsonNode message = codecs.readTree(codecs.writeValueAsString(codecs.readValue(UPDATE, Update.class)))
+                .get("message");
+
+        assertFalse(message.has("delete_chat_photo"));
+        assertFalse(message.has("group_chat_created"));
+        assertFalse(message.has("text"));
+        assertFalse(message.has("migrate_to_chat_id"));
+        assertFalse(message.get("new_chat_photo").get(1).has("file_size"));
+        assertTrue(message.get("channel_chat_created").booleanValue());
+        assertTrue(message.get("reply_to_message").get("group_chat_created").booleanValue());
+    }
+
+    private static JsonNode withoutFalseFlags (JsonNode node) {
+        if (node.isObject()) {
+            List<String> falseFlags = new ArrayList<>();
+            Iterator<Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Entry<String, JsonNode> field = fields.next();
+                if (field.getValue().isBoolean() && !field.getValue().booleanValue()) {
+                    falseFlags.add(field.getKey());
+                } else {
+                    withoutFalseFlags(field.getValue());
+                }
+            }
+            ((ObjectNode) node).remove(falseFlags);
+        } else if (node.isArray()) {
+            for (JsonNode element : node) {
+                withoutFalseFlags(element);
+            }
+        }
+        return node;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api.metrics;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import feign.Request;
+import feign.Request.Options;
+import feign.Response;
+import feign.Util;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+/**
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 11:59:58 PM
+ *
+ * @version 1.0.0
+ */
+public class MetricsClientTest {
+
+    private static final Options OPTIONS = new Options(1000, 1000);
+
+    private final HistogramMetricsRegistry registry = new HistogramMetricsRegistry();
+
+    @Test
+    public void callIsRecordedOnceBodyIsRead () throws IOException {
+        MetricsClient client = new MetricsClient((request, options) -> {
+            sleep(20);
+            return response(200, "{\"ok\":true,\"result\":true}");
+        }, registry);
+
+        Response response = client.execute(request("sendMessage?parse_mode=Markdown", "{\"text\":\"hi\"}"), OPTIONS);
+        assertNull(registry.get("sendMessage"));
+
+        try (InputStream input = response.body().asInputStream()) {
+            assertEquals("{\"ok\":true,\"result\":true}", new String(Util.toByteArray(input), UTF_8));
+        }
+
+        EndpointMetrics metrics = registry.get("sendMessage");
+        assertEquals(1, metrics.getCalls());
+        assertEquals(0, metrics.getErrors());
+        assertEquals(13, metrics.getBytesOut());
+        assertEquals(25, metrics.getBytesIn());
+        assertEquals(1, metrics.getLatency().getCount());
+        assertTrue(metrics.getLatency().getMax() >= TimeUnit.MILLISECONDS.toNanos(20));
+    }
+
+    @Test
+    public void unsuccessfulCallIsCountedByItsCode () throws IOException {
+        MetricsClient client = new MetricsClient((request, options) -> response(429, "{\"ok\":false}"), registry);
+
+        client.execute(request("sendMessage", "{}"), OPTIONS).body().close();
+        client.execute(request("sendMessage", "{}"), OPTIONS).body().close();
+
+        EndpointMetrics metrics = registry.get("sendMessage");
+        assertEquals(2, metrics.getCalls());
+        assertEquals(2, metrics.getErrors());
+        assertEquals(2, metrics.getErrors(429));
+        assertEquals(Collections.singletonMap(429, 2L), metrics.getErrorCodes());
+        // closed unread
+        assertEquals(0, metrics.getBytesIn());
+    }
+
+    @Test
+    public void ioErrorIsRecordedAsCodeZero () {
+        IOException failure = new IOException("connection reset");
+        MetricsClient client = new MetricsClient((request, options) -> {
+            throw failure;
+        }, registry);
+
+        try {
+            client.execute(request("getMe", null), OPTIONS);
+            fail();
+        } catch (IOException ex) {
+            assertSame(failure, ex);
+        }
+
+        EndpointMetrics metrics = registry.get("getMe");
+        assertEquals(1, metrics.getCalls());
+        assertEquals(1, metrics.getErrors(0));
+    }
+
+    @Test
+    public void responseWithoutBodyIsRecordedImmediately () throws IOException {
+        MetricsClient client = new MetricsClient((request, options) -> Response.create(204, "No Content",
+                                                                                       Collections.emptyMap(),
+                                                                                       (byte[]) null), registry);
+
+        client.execute(request("setWebhook", "{}"), OPTIONS);
+
+        assertEquals(1, registry.get("setWebhook").getCalls());
+        assertEquals(Collections.singleton("setWebhook"), registry.getAll().keySet());
+    }
+
+    private static Request request (String method, String body) {
+        return Request.create("POST", "https://api.telegram.org/bot123456:test/" + method, Collections.emptyMap(),
+                              body == null
+                              ? null
+                              : body.getBytes(UTF_8),
+                              UTF_8);
+    }
+
+    private static Response response (int status, String body) {
+        return Response.create(status, "", Collections.emptyMap(), body.getBytes(UTF_8));
+    }
+
+    private static void sleep (long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api.update;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import ru.xxlabaza.telegram.api.type.Update;
+
+/**
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 2:20:48 PM
+ *
+ * @version 1.0.0
+ */
+public class UpdateDeduplicatorTest {
+
+    private final List<Integer> handled = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void duplicatesAreDropped () {
+        UpdateDeduplicator deduplicator = UpdateDeduplicator.builder(update -> handled.add(update.getId())).build();
+
+        accept(deduplicator, 1, 2, 1, 3, 2);
+
+        assertEquals(Arrays.asList(1, 2, 3), handled);
+        assertEquals(2, deduplicator.getDuplicates());
+    }
+
+    @Test
+    public void gapIsFilledInOrder () {
+        try (UpdateDeduplicator deduplicator = UpdateDeduplicator.builder(update -> handled.add(update.getId()))
+                .reorderWindow(8)
+                .build()) {
+            accept(deduplicator, 1, 3, 4);
+            assertEquals(Arrays.asList(1), handled);
+
+            accept(deduplicator, 2);
+            assertEquals(Arrays.asList(1, 2, 3, 4), handled);
+        }
+    }
+
+    @Test(timeout = 5_000)
+    public void parkedUpdatesAreReleasedAfterMaxDelay () throws InterruptedException {
+        try (UpdateDeduplicator deduplicator = UpdateDeduplicator.builder(update -> handled.add(update.getId()))
+                .reorderWindow(8)
+                .maxDelay(50, TimeUnit.MILLISECONDS)
+                .build()) {
+            accept(deduplicator, 1, 3, 4);
+
+            // no update arrives, the timer gives up on the missing one
+            while (handled.size() < 3) {
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+            assertEquals(Arrays.asList(1, 3, 4), handled);
+
+            accept(deduplicator, 2);
+            assertEquals(Arrays.asList(1, 3, 4, 2), handled);
+        }
+    }
+
+    private static void accept (UpdateDeduplicator deduplicator, int... ids) {
+        for (int id : ids) {
+            Update update = new Update();
+            update.setId(id);
+            deduplicator.accept(update);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api.update;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import ru.xxlabaza.telegram.api.type.Chat;
+import ru.xxlabaza.telegram.api.type.Message;
+import ru.xxlabaza.telegram.api.type.Update;
+
+/**
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 5:21:36 PM
+ *
+ * @version 1.0.0
+ */
+public class UpdateDispatcherTest {
+
+    @Test(timeout = 10_000)
+    public void updatesOfChatAreHandledInOrder () throws Exception {
+        Map<Integer, List<Integer>> handled = new ConcurrentHashMap<>();
+        UpdateDispatcher dispatcher = UpdateDispatcher.builder(update -> handled
+                .computeIfAbsent(update.getMessage().getChat().getId(), chat -> new ArrayList<>())
+                .add(update.getId()))
+                .lanes(4)
+                .laneCapacity(8)
+                .build();
+
+        for (int id = 0; id < 1000; id++) {
+            dispatcher.dispatch(update(id, id % 10));
+        }
+        dispatcher.close();
+        assertTrue(dispatcher.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(10, handled.size());
+        for (Map.Entry<Integer, List<Integer>> chat : handled.entrySet()) {
+            List<Integer> ids = chat.getValue();
+            assertEquals(100, ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                assertEquals(Integer.valueOf(chat.getKey() + i * 10), ids.get(i));
+            }
+        }
+    }
+
+    @Test(timeout = 10_000)
+    public void dispatchAllCompletesOnceUpdatesAreHandled () throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        UpdateDispatcher dispatcher = UpdateDispatcher.builder(update -> {
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        })
+                .lanes(2)
+                .build();
+        try {
+            CompletableFuture<Void> handled = dispatcher.dispatchAll(Arrays.asList(update(1, 1), update(2, 2)));
+            TimeUnit.MILLISECONDS.sleep(100);
+            assertFalse(handled.isDone());
+
+            release.countDown();
+            handled.get(5, TimeUnit.SECONDS);
+            assertTrue(dispatcher.dispatchAll(Collections.emptyList()).isDone());
+        } finally {
+            dispatcher.close();
+        }
+    }
+
+    @Test(timeout = 30_000)
+    public void everyAcceptedUpdateIsHandledDespiteConcurrentClose () throws Exception {
+        for (int round = 0; round < 200; round++) {
+            AtomicInteger handled = new AtomicInteger();
+            UpdateDispatcher dispatcher = UpdateDispatcher.builder(update -> handled.incrementAndGet())
+                    .lanes(1)
+                    .build();
+            AtomicInteger accepted = new AtomicInteger();
+            Thread source = new Thread(() -> {
+                for (int id = 0; ; id++) {
+                    try {
+                        dispatcher.dispatch(update(id, 1));
+                    } catch (IllegalStateException ex) {
+                        return;
+                    }
+                    accepted.incrementAndGet();
+                }
+            });
+            source.start();
+            while (accepted.get() == 0) {
+                Thread.yield();
+            }
+            dispatcher.close();
+            source.join();
+
+            assertTrue(dispatcher.awaitTermination(5, TimeUnit.SECONDS));
+            assertEquals(accepted.get(), handled.get());
+        }
+    }
+
+    @Test
+    public void closedDispatcherRejectsUpdates () {
+        UpdateDispatcher dispatcher = UpdateDispatcher.builder(update -> {
+        }).build();
+        dispatcher.close();
+        dispatcher.close();
+        try {
+            dispatcher.dispatch(update(1, 1));
+            fail("a closed dispatcher must reject updates");
+        } catch (IllegalStateException ex) {
+            assertEquals("dispatcher is closed", ex.getMessage());
+        }
+    }
+
+    private static Update update (int id, int chatId) {
+        Chat chat = new Chat();
+        chat.setId(chatId);
+        Message message = new Message();
+        message.setChat(chat);
+        Update update = new Update();
+        update.setId(id);
+        update.setMessage(message);
+        return update;
+    }
+}
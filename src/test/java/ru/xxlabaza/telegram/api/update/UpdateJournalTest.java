@@ -0,0 +1,137 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api.update;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import ru.xxlabaza.telegram.api.type.Chat;
+import ru.xxlabaza.telegram.api.type.Message;
+import ru.xxlabaza.telegram.api.type.Update;
+
+/**
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 1:52:33 PM
+ *
+ * @version 1.0.0
+ */
+public class UpdateJournalTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void tornRecordIsDroppedOnReopen () throws IOException {
+        Path directory = folder.getRoot().toPath();
+        try (UpdateJournal journal = UpdateJournal.builder(directory).segmentSize(4096).build()) {
+            for (int id = 1; id <= 3; id++) {
+                journal.append(update(id, "text"));
+            }
+        }
+
+        // a power loss persisted the last record's length, but not all of its payload
+        Path segment = segments(directory).get(0);
+        byte[] bytes = Files.readAllBytes(segment);
+        String content = new String(bytes, UTF_8);
+        bytes[content.lastIndexOf("\"update_id\":3") + "\"update_id\":".length()] = '4';
+        Files.write(segment, bytes);
+
+        try (UpdateJournal journal = UpdateJournal.builder(directory).segmentSize(4096).build()) {
+            assertEquals(Arrays.asList(1, 2), ids(journal));
+            journal.append(update(5, "text"));
+        }
+        try (UpdateJournal journal = UpdateJournal.builder(directory).segmentSize(4096).build()) {
+            assertEquals(Arrays.asList(1, 2, 5), ids(journal));
+        }
+    }
+
+    @Test
+    public void segmentsAreTrimmedOnReopen () throws IOException {
+        Path directory = folder.getRoot().toPath();
+        char[] text = new char[1000];
+        Arrays.fill(text, 'a');
+        try (UpdateJournal journal = UpdateJournal.builder(directory).segmentSize(4096).build()) {
+            for (int id = 1; id <= 20; id++) {
+                journal.append(update(id, new String(text)));
+            }
+        }
+        assertTrue(segments(directory).size() > 2);
+
+        try (UpdateJournal journal = UpdateJournal.builder(directory).segmentSize(4096).maxSegments(2).build()) {
+            assertEquals(2, segments(directory).size());
+            List<Integer> ids = ids(journal);
+            assertEquals(Integer.valueOf(20), ids.get(ids.size() - 1));
+            assertTrue(ids.get(0) > 1);
+        }
+    }
+
+    @Test
+    public void chatWithoutIdentifierIsJournaledWithoutChat () throws IOException {
+        try (UpdateJournal journal = UpdateJournal.builder(folder.getRoot().toPath()).segmentSize(4096).build()) {
+            Update update = update(1, "text");
+            update.getMessage().setChat(new Chat());
+            journal.append(update);
+
+            assertEquals(Arrays.asList(1), ids(journal));
+            assertEquals(Integer.valueOf(1), journal.find(1).getId());
+        }
+    }
+
+    private static Update update (int id, String text) {
+        Message message = new Message();
+        message.setId(id);
+        message.setText(text);
+        Update update = new Update();
+        update.setId(id);
+        update.setMessage(message);
+        return update;
+    }
+
+    private static List<Integer> ids (UpdateJournal journal) {
+        List<Integer> ids = new ArrayList<>();
+        journal.replay(update -> ids.add(update.getId()));
+        return ids;
+    }
+
+    private static List<Path> segments (Path directory) throws IOException {
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*.journal")) {
+            stream.forEach(segments::add);
+        }
+        segments.sort(null);
+        return segments;
+    }
+}
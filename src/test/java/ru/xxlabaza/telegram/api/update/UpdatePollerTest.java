@@ -0,0 +1,178 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api.update;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+import ru.xxlabaza.telegram.api.TelegramService;
+import ru.xxlabaza.telegram.api.TestServices;
+
+/**
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 10:41:05 AM
+ *
+ * @version 1.0.0
+ */
+public class UpdatePollerTest {
+
+    private final AtomicInteger polls = new AtomicInteger();
+
+    // every poll receives a batch of one update, with identifiers 1, 2, 3...
+    private final TelegramService service = TestServices.builder(
+            (request, options) -> TestServices.ok("[{\"update_id\":" + polls.incrementAndGet() + "}]")
+    ).build();
+
+    @Test(timeout = 5_000)
+    public void rejectedBatchStopsPolling () throws Exception {
+        AtomicReference<Throwable> uncaught = new AtomicReference<>();
+        Thread.UncaughtExceptionHandler defaultHandler = Thread.getDefaultUncaughtExceptionHandler();
+        Thread.setDefaultUncaughtExceptionHandler((thread, ex) -> uncaught.set(ex));
+        try {
+            pollWithRejectingExecutor();
+        } finally {
+            Thread.setDefaultUncaughtExceptionHandler(defaultHandler);
+        }
+        assertEquals(1, polls.get());
+        assertNull(uncaught.get());
+    }
+
+    @Test(timeout = 5_000)
+    public void offsetIsCommittedInOrderOfReceipt () throws Exception {
+        List<Runnable> tasks = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> commits = Collections.synchronizedList(new ArrayList<>());
+        UpdatePoller poller = UpdatePoller.builder(service, updates -> {
+        })
+                .executor(tasks::add)
+                .maxPendingBatches(2)
+                .offsetStore(store(commits))
+                .build();
+        poller.start();
+        try {
+            while (tasks.size() < 2) {
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+
+            // the second batch is processed first, but the offset can not pass the first one
+            tasks.get(1).run();
+            assertTrue(commits.isEmpty());
+            tasks.get(0).run();
+            assertEquals(Collections.singletonList(3), commits);
+        } finally {
+            poller.close();
+        }
+    }
+
+    @Test(timeout = 5_000)
+    public void handlerFailureStopsPolling () throws Exception {
+        List<Integer> commits = Collections.synchronizedList(new ArrayList<>());
+        UpdatePoller poller = UpdatePoller.builder(service, updates -> {
+            throw new IllegalStateException("handler failed");
+        })
+                .offsetStore(store(commits))
+                .pipelining(false)
+                .build();
+        poller.start();
+
+        TimeUnit.MILLISECONDS.sleep(300);
+        poller.close();
+
+        // the failed batch is neither committed nor confirmed by another poll
+        assertEquals(1, polls.get());
+        assertTrue(commits.isEmpty());
+    }
+
+    @Test(timeout = 5_000)
+    public void offsetIsCommittedOnceDispatcherHandledBatch () throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        UpdateDispatcher dispatcher = UpdateDispatcher.builder(update -> {
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }).build();
+        List<Integer> commits = Collections.synchronizedList(new ArrayList<>());
+        UpdatePoller poller = UpdatePoller.builder(service, dispatcher)
+                .offsetStore(store(commits))
+                .pipelining(false)
+                .build();
+        poller.start();
+        try {
+            // the update waits in a lane, so it is neither committed nor confirmed by another poll
+            TimeUnit.MILLISECONDS.sleep(300);
+            assertEquals(1, polls.get());
+            assertTrue(commits.isEmpty());
+
+            release.countDown();
+            while (commits.isEmpty()) {
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+            assertEquals(Integer.valueOf(2), commits.get(0));
+        } finally {
+            poller.close();
+            dispatcher.close();
+        }
+    }
+
+    private static OffsetStore store (List<Integer> commits) {
+        return new OffsetStore() {
+
+            @Override
+            public Integer load () {
+                return null;
+            }
+
+            @Override
+            public void commit (int offset) {
+                commits.add(offset);
+            }
+        };
+    }
+
+    private void pollWithRejectingExecutor () throws InterruptedException {
+        UpdatePoller poller = UpdatePoller.builder(service, updates -> {
+        })
+                .executor(command -> {
+                    throw new RejectedExecutionException("executor is shut down");
+                })
+                .pipelining(false)
+                .build();
+        poller.start();
+
+        TimeUnit.MILLISECONDS.sleep(300);
+        poller.close();
+    }
+}
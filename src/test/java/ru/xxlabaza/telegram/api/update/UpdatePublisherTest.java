@@ -0,0 +1,203 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api.update;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import ru.xxlabaza.telegram.api.RemoteApiException;
+import ru.xxlabaza.telegram.api.TelegramService;
+import ru.xxlabaza.telegram.api.TestServices;
+import ru.xxlabaza.telegram.api.type.Update;
+
+/**
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 11:48:30 PM
+ *
+ * @version 1.0.0
+ */
+public class UpdatePublisherTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    // limit and offset of every poll
+    private final List<List<Integer>> polls = Collections.synchronizedList(new ArrayList<>());
+
+    // every poll receives as many updates as its limit allows, with identifiers from its offset on
+    private final TelegramService service = TestServices.builder((request, options) -> {
+        JsonNode parameters = parameters(request.body());
+        int limit = parameters.path("limit").asInt();
+        Integer offset = parameters.has("offset")
+                         ? parameters.get("offset").asInt()
+                         : null;
+        polls.add(Arrays.asList(limit, offset));
+        int first = offset == null
+                    ? 1
+                    : offset;
+        StringBuilder updates = new StringBuilder();
+        for (int id = first; id < first + limit; id++) {
+            updates.append(",{\"update_id\":").append(id).append('}');
+        }
+        return TestServices.ok('[' + updates.substring(1) + ']');
+    }).build();
+
+    @Test(timeout = 5_000)
+    public void limitFollowsDemand () throws Exception {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        UpdatePublisher.builder(service).maxLimit(100).build().subscribe(subscriber);
+        Subscription subscription = subscriber.subscribed();
+        try {
+            // no demand, no poll
+            TimeUnit.MILLISECONDS.sleep(100);
+            assertTrue(polls.isEmpty());
+
+            subscription.request(3);
+            assertEquals(Arrays.asList(1, 2, 3), subscriber.take(3));
+            // the publisher waits for demand, instead of polling the next updates
+            TimeUnit.MILLISECONDS.sleep(100);
+            assertEquals(Collections.singletonList(Arrays.asList(3, null)), polls);
+
+            subscription.request(250);
+            assertEquals(Arrays.asList(4, 5), subscriber.take(2));
+            assertEquals(Arrays.asList(100, 4), polls.get(1));
+        } finally {
+            subscription.cancel();
+        }
+        assertNull(subscriber.error.getNow(null));
+    }
+
+    @Test(timeout = 5_000)
+    public void nonPositiveRequestSignalsError () throws Exception {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        UpdatePublisher.builder(service).build().subscribe(subscriber);
+
+        subscriber.subscribed().request(0);
+
+        Throwable error = subscriber.error.get();
+        assertEquals(IllegalArgumentException.class, error.getClass());
+        assertTrue(polls.isEmpty());
+    }
+
+    @Test(timeout = 5_000)
+    public void unsuccessfulResponseSignalsError () throws Exception {
+        TelegramService unauthorized = TestServices.builder(
+                (request, options) -> TestServices.json("{\"ok\":false,\"error_code\":401,"
+                                                        + "\"description\":\"Unauthorized\"}")
+        ).build();
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        UpdatePublisher.builder(unauthorized).build().subscribe(subscriber);
+
+        subscriber.subscribed().request(1);
+
+        Throwable error = subscriber.error.get();
+        assertEquals(RemoteApiException.class, error.getClass());
+        assertEquals(Integer.valueOf(401), ((RemoteApiException) error).getErrorCode());
+    }
+
+    @Test(timeout = 5_000)
+    public void secondSubscriberIsRejected () throws Exception {
+        UpdatePublisher publisher = UpdatePublisher.builder(service).build();
+        RecordingSubscriber first = new RecordingSubscriber();
+        publisher.subscribe(first);
+        RecordingSubscriber second = new RecordingSubscriber();
+        publisher.subscribe(second);
+        try {
+            assertEquals(IllegalStateException.class, second.error.get().getClass());
+        } finally {
+            first.subscribed().cancel();
+        }
+    }
+
+    private static JsonNode parameters (byte[] body) {
+        try {
+            return MAPPER.readTree(new String(body, UTF_8));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static final class RecordingSubscriber implements Subscriber<Update> {
+
+        private final CountDownLatch subscribed = new CountDownLatch(1);
+
+        private final BlockingQueue<Update> updates = new LinkedBlockingQueue<>();
+
+        private final CompletableFuture<Throwable> error = new CompletableFuture<>();
+
+        private volatile Subscription subscription;
+
+        @Override
+        public void onSubscribe (Subscription subscription) {
+            this.subscription = subscription;
+            subscribed.countDown();
+        }
+
+        @Override
+        public void onNext (Update update) {
+            updates.add(update);
+        }
+
+        @Override
+        public void onError (Throwable throwable) {
+            error.complete(throwable);
+        }
+
+        @Override
+        public void onComplete () {
+            error.completeExceptionally(new AssertionError("the stream never completes"));
+        }
+
+        Subscription subscribed () throws InterruptedException {
+            subscribed.await();
+            return subscription;
+        }
+
+        List<Integer> take (int count) throws InterruptedException {
+            List<Integer> result = new ArrayList<>(count);
+            for (int index = 0; index < count; index++) {
+                result.add(updates.take().getId());
+            }
+            return result;
+        }
+    }
+}
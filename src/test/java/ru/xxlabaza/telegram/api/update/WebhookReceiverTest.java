@@ -0,0 +1,113 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2016 xxlabaza.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ru.xxlabaza.telegram.api.update;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.concurrent.CountDownLatch;
+import org.junit.Test;
+
+/**
+ * @author Artem Labazin
+ *
+ * @since Oct 18, 2026 | 1:17:26 PM
+ *
+ * @version 1.0.0
+ */
+public class WebhookReceiverTest {
+
+    @Test
+    public void fullQueueIsAnsweredWith503 () throws IOException {
+        CountDownLatch release = new CountDownLatch(1);
+        WebhookReceiver receiver = WebhookReceiver.builder(update -> {
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        })
+                .host("127.0.0.1")
+                .port(0)
+                .path("/hook")
+                .queueCapacity(1)
+                .build();
+        receiver.start();
+        try {
+            assertEquals(200, post(receiver, 1));
+
+            // the pool's threads are blocked by the handler, and its queue holds a single update
+            int threads = Runtime.getRuntime().availableProcessors();
+            int status = 200;
+            for (int id = 2; id <= threads + 2 && status == 200; id++) {
+                status = post(receiver, id);
+            }
+            assertEquals(503, status);
+        } finally {
+            release.countDown();
+            receiver.close();
+        }
+    }
+
+    @Test
+    public void unparsableUpdateIsAnsweredWith400 () throws IOException {
+        WebhookReceiver receiver = WebhookReceiver.builder(update -> {
+        })
+                .host("127.0.0.1")
+                .port(0)
+                .path("/hook")
+                .build();
+        receiver.start();
+        try {
+            assertEquals(400, post(receiver, "{\"update_id\":"));
+            assertEquals(200, post(receiver, 1));
+        } finally {
+            receiver.close();
+        }
+    }
+
+    private static int post (WebhookReceiver receiver, int id) throws IOException {
+        return post(receiver, "{\"update_id\":" + id + "}");
+    }
+
+    private static int post (WebhookReceiver receiver, String json) throws IOException {
+        URL url = new URL("http://127.0.0.1:" + receiver.getAddress().getPort() + "/hook");
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        try {
+            connection.setRequestMethod("POST");
+            connection.setRequestProperty("Content-Type", "application/json");
+            connection.setDoOutput(true);
+            try (OutputStream output = connection.getOutputStream()) {
+                output.write(json.getBytes(UTF_8));
+            }
+            return connection.getResponseCode();
+        } finally {
+            connection.disconnect();
+        }
+    }
+}